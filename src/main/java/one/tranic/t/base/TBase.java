@@ -1,6 +1,7 @@
 package one.tranic.t.base;
 
 import one.tranic.t.base.command.Operator;
+import one.tranic.t.base.command.source.AsyncConsoleSink;
 import one.tranic.t.base.command.source.SystemCommandSource;
 import one.tranic.t.base.loader.TPLoader;
 import one.tranic.t.thread.T2hread;
@@ -102,6 +103,7 @@ public class TBase {
     }
 
     public static void close() {
+        AsyncConsoleSink.closeShared();
         executor.shutdownNow();
         INSTANCE.disable();
     }
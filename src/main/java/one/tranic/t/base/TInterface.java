@@ -3,12 +3,14 @@ package one.tranic.t.base;
 import one.tranic.t.base.command.source.SystemCommandSource;
 import one.tranic.t.base.loader.TPLoader;
 import one.tranic.t.base.player.Player;
+import one.tranic.t.base.player.session.PlayerSessions;
 import one.tranic.t.utils.Collections;
 import one.tranic.t.utils.minecraft.Platform;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 
@@ -112,4 +114,18 @@ public interface TInterface<S, P> {
      * the list is guaranteed to be non-null.
      */
     @NotNull List<String> getOnlinePlayersName();
+
+    /**
+     * Retrieves all online players that have a session, grouped by their protocol version.
+     * <p>
+     * The protocol versions are read from the {@link one.tranic.t.base.player.session.PlayerSession}
+     * of each player, so no ViaVersion lookups are performed.
+     *
+     * @return a {@code Map} from protocol version to the players using it;
+     * the map is guaranteed to be non-null but may be empty.
+     */
+    @SuppressWarnings("unchecked")
+    default @NotNull Map<Integer, List<Player<P>>> getOnlinePlayersByProtocolVersion() {
+        return (Map<Integer, List<Player<P>>>) (Map<?, ?>) PlayerSessions.groupByProtocolVersion();
+    }
 }
@@ -0,0 +1,301 @@
+package one.tranic.t.base.command.argument;
+
+import one.tranic.t.base.TBase;
+import one.tranic.t.base.command.source.CommandSource;
+import one.tranic.t.base.exception.ArgumentException;
+import one.tranic.t.base.parse.time.TimeParser;
+import one.tranic.t.base.parse.uuid.UUIDParser;
+import one.tranic.t.base.player.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Reads typed arguments from a command line with a cursor.
+ * <p>
+ * Numbers, booleans, UUIDs and durations are parsed directly from the characters of the command line,
+ * without splitting it or creating a {@code String} per argument. Every read skips the preceding whitespace,
+ * and a failed read leaves the cursor at the start of the offending argument and throws an
+ * {@link ArgumentException} carrying that position.
+ * <p>
+ * usage:
+ * <pre>
+ *     var reader = ArgumentReader.of(source);
+ *     Player&lt;?&gt; target = reader.readPlayer();
+ *     long duration = reader.readDuration();
+ *     String reason = reader.hasNext() ? reader.readRemaining() : "Banned";
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public final class ArgumentReader {
+    private final CharSequence input;
+    private int cursor;
+
+    /**
+     * Constructs a reader positioned at the start of the command line.
+     *
+     * @param input the command line to read; must not be null
+     */
+    public ArgumentReader(@NotNull CharSequence input) {
+        this.input = input;
+    }
+
+    /**
+     * Constructs a reader over the input of the command source.
+     *
+     * @param source the command source; must not be null
+     * @return a reader positioned at the first argument
+     * @see CommandSource#getInput()
+     */
+    public static @NotNull ArgumentReader of(@NotNull CommandSource<?, ?> source) {
+        return new ArgumentReader(source.getInput());
+    }
+
+    /**
+     * Retrieves the command line being read.
+     *
+     * @return the command line
+     */
+    public @NotNull CharSequence getInput() {
+        return input;
+    }
+
+    /**
+     * Retrieves the position of the cursor.
+     *
+     * @return the position of the next character to read
+     */
+    public int getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Moves the cursor.
+     *
+     * @param cursor the position of the next character to read
+     */
+    public void setCursor(int cursor) {
+        this.cursor = Math.max(0, Math.min(cursor, input.length()));
+    }
+
+    /**
+     * Determines whether another argument follows the cursor, skipping the whitespace before it.
+     *
+     * @return true if an argument can be read
+     */
+    public boolean hasNext() {
+        skipWhitespace();
+        return cursor < input.length();
+    }
+
+    /**
+     * Advances the cursor past any whitespace.
+     */
+    public void skipWhitespace() {
+        while (cursor < input.length() && Character.isWhitespace(input.charAt(cursor))) cursor++;
+    }
+
+    private int tokenEnd() {
+        int end = cursor;
+        while (end < input.length() && !Character.isWhitespace(input.charAt(end))) end++;
+        return end;
+    }
+
+    private int begin(String expected) {
+        skipWhitespace();
+        if (cursor >= input.length()) throw error("Expected " + expected, cursor);
+        return cursor;
+    }
+
+    private ArgumentException error(String reason, int position) {
+        cursor = position;
+        return new ArgumentException(reason, input, position);
+    }
+
+    private ArgumentException invalid(String type, int start, int end) {
+        return error("Invalid " + type + " '" + input.subSequence(start, end) + "'", start);
+    }
+
+    /**
+     * Reads an integer.
+     *
+     * @return the integer
+     * @throws ArgumentException if there is no argument or it is not a valid integer
+     */
+    public int readInt() {
+        int start = cursor;
+        long value = readLong("integer");
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) throw invalid("integer", skipped(start), cursor);
+        return (int) value;
+    }
+
+    /**
+     * Reads an integer within a range.
+     *
+     * @param min the smallest accepted value
+     * @param max the largest accepted value
+     * @return the integer
+     * @throws ArgumentException if there is no argument, it is not a valid integer or it is out of range
+     */
+    public int readInt(int min, int max) {
+        int start = cursor;
+        int value = readInt();
+        if (value < min || value > max)
+            throw error("Integer must be between " + min + " and " + max + ", found " + value, skipped(start));
+        return value;
+    }
+
+    /**
+     * Reads a long integer.
+     *
+     * @return the long integer
+     * @throws ArgumentException if there is no argument or it is not a valid long integer
+     */
+    public long readLong() {
+        return readLong("long");
+    }
+
+    private long readLong(String type) {
+        int start = begin(type);
+        int end = tokenEnd();
+        int i = start;
+        boolean negative = input.charAt(i) == '-';
+        if (negative || input.charAt(i) == '+') i++;
+        if (i == end) throw invalid(type, start, end);
+        long value = 0;
+        for (; i < end; i++) {
+            int digit = input.charAt(i) - '0';
+            if (digit < 0 || digit > 9) throw invalid(type, start, end);
+            // accumulate negatively so that Long.MIN_VALUE is representable
+            if (value < (Long.MIN_VALUE + digit) / 10) throw invalid(type, start, end);
+            value = value * 10 - digit;
+        }
+        if (!negative && value == Long.MIN_VALUE) throw invalid(type, start, end);
+        cursor = end;
+        return negative ? value : -value;
+    }
+
+    /**
+     * Reads a boolean, {@code true} or {@code false} in any case.
+     *
+     * @return the boolean
+     * @throws ArgumentException if there is no argument or it is not a boolean
+     */
+    public boolean readBoolean() {
+        int start = begin("boolean");
+        int end = tokenEnd();
+        if (matches(start, end, "true")) {
+            cursor = end;
+            return true;
+        }
+        if (matches(start, end, "false")) {
+            cursor = end;
+            return false;
+        }
+        throw invalid("boolean", start, end);
+    }
+
+    private boolean matches(int start, int end, String word) {
+        if (end - start != word.length()) return false;
+        for (int i = 0; i < word.length(); i++) {
+            if (Character.toLowerCase(input.charAt(start + i)) != word.charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Reads a UUID, with or without dashes.
+     *
+     * @return the UUID
+     * @throws ArgumentException if there is no argument or it is not a valid UUID
+     */
+    public @NotNull UUID readUUID() {
+        int start = begin("UUID");
+        int end = tokenEnd();
+        UUID uuid = UUIDParser.parse(input, start, end);
+        if (uuid == null) throw invalid("UUID", start, end);
+        cursor = end;
+        return uuid;
+    }
+
+    /**
+     * Reads a duration made of one or more amounts followed by a unit, such as {@code 30m} or {@code 1d12h},
+     * or the literal {@code forever}.
+     * <p>
+     * The units are those of {@link one.tranic.t.base.parse.time.TimeUnit}: {@code s}, {@code m}, {@code h},
+     * {@code d}, {@code mo} (30 days) and {@code y} (365 days).
+     *
+     * @return the duration in milliseconds, or {@link TimeParser#FOREVER} for {@code forever}
+     * @throws ArgumentException if there is no argument or it is not a valid duration
+     */
+    public long readDuration() {
+        int start = begin("duration");
+        int end = tokenEnd();
+        if (matches(start, end, "forever")) {
+            cursor = end;
+            return TimeParser.FOREVER;
+        }
+        long total = TimeParser.parseDurationMillis(input, start, end);
+        if (total == TimeParser.ERROR_OVERFLOW)
+            throw error("Duration is too long '" + input.subSequence(start, end) + "'", start);
+        if (TimeParser.isError(total)) throw invalid("duration", start, end);
+        cursor = end;
+        return total;
+    }
+
+    /**
+     * Reads an online player by name or UUID.
+     *
+     * @return the player
+     * @throws ArgumentException if there is no argument or no online player matches it
+     */
+    @SuppressWarnings("unchecked")
+    public @NotNull Player<?> readPlayer() {
+        int start = begin("player");
+        int end = tokenEnd();
+        UUID uuid = UUIDParser.parse(input, start, end);
+        Player<?> player = uuid != null ? TBase.INSTANCE.getPlayer(uuid)
+                : TBase.INSTANCE.getPlayer(input.subSequence(start, end).toString());
+        if (player == null) throw error("Unknown player '" + input.subSequence(start, end) + "'", start);
+        cursor = end;
+        return player;
+    }
+
+    /**
+     * Reads the next argument as a string.
+     *
+     * @return the argument
+     * @throws ArgumentException if there is no argument
+     */
+    public @NotNull String readString() {
+        int start = begin("argument");
+        cursor = tokenEnd();
+        return input.subSequence(start, cursor).toString();
+    }
+
+    /**
+     * Reads the rest of the command line, starting at the next argument.
+     *
+     * @return the rest of the command line
+     * @throws ArgumentException if there is no argument
+     */
+    public @NotNull String readRemaining() {
+        int start = begin("argument");
+        cursor = input.length();
+        return input.subSequence(start, cursor).toString();
+    }
+
+    /**
+     * Verifies that the command line has been read completely.
+     *
+     * @throws ArgumentException if another argument follows the cursor
+     */
+    public void expectEnd() {
+        if (hasNext()) throw error("Unexpected argument '" + input.subSequence(cursor, tokenEnd()) + "'", cursor);
+    }
+
+    private int skipped(int position) {
+        while (position < input.length() && Character.isWhitespace(input.charAt(position))) position++;
+        return position;
+    }
+}
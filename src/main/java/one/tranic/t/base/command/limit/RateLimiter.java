@@ -0,0 +1,174 @@
+package one.tranic.t.base.command.limit;
+
+import one.tranic.t.base.command.source.CommandSource;
+import one.tranic.t.base.player.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Limits how often each source may invoke a command, using one token bucket per UUID.
+ * <p>
+ * Every bucket holds up to {@code capacity} tokens and refills continuously at {@code refillPerSecond};
+ * an invocation consumes one token and is rejected when the bucket is empty. The state of a bucket, its token
+ * count and the time it was last refilled, is packed into a single {@link AtomicLong} and updated with CAS,
+ * and a rejection only reads it. Buckets that have been idle long enough to be full again are indistinguishable
+ * from new ones and are swept lazily.
+ * <p>
+ * usage:
+ * <pre>
+ *     setRateLimiter(new RateLimiter(5, 1)); // bursts of 5, then one invocation per second
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public final class RateLimiter {
+    private static final int TOKEN_BITS = 24;
+    private static final long TOKEN_MASK = (1L << TOKEN_BITS) - 1;
+    private static final int FRACTION_BITS = 8;
+    private static final long ONE = 1L << FRACTION_BITS;
+    private static final long MAX_CAPACITY = TOKEN_MASK >> FRACTION_BITS;
+    private static final long MIN_SWEEP_INTERVAL_MILLIS = 60_000;
+
+    private final Map<UUID, AtomicLong> buckets = new ConcurrentHashMap<>();
+    private final int capacity;
+    private final double refillPerSecond;
+    private final long full;
+    private final double refillPerMilli;
+    private final long fillMillis;
+    private final long sweepIntervalMillis;
+    private final long origin = System.nanoTime();
+    private final AtomicLong nextSweep;
+
+    /**
+     * Constructs a rate limiter.
+     *
+     * @param capacity        the number of invocations a source may burst, between 1 and 65535
+     * @param refillPerSecond the number of invocations regained per second; must be positive
+     * @throws IllegalArgumentException if an argument is out of range
+     */
+    public RateLimiter(int capacity, double refillPerSecond) {
+        if (capacity < 1 || capacity > MAX_CAPACITY)
+            throw new IllegalArgumentException("Capacity must be between 1 and " + MAX_CAPACITY + ": " + capacity);
+        if (!(refillPerSecond > 0)) throw new IllegalArgumentException("Refill rate must be positive: " + refillPerSecond);
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+        this.full = capacity * ONE;
+        this.refillPerMilli = refillPerSecond * ONE / 1000D;
+        this.fillMillis = (long) Math.ceil(capacity * 1000D / refillPerSecond);
+        this.sweepIntervalMillis = Math.max(MIN_SWEEP_INTERVAL_MILLIS, fillMillis);
+        this.nextSweep = new AtomicLong(sweepIntervalMillis);
+    }
+
+    private long now() {
+        return (System.nanoTime() - origin) / 1_000_000L;
+    }
+
+    /**
+     * Attempts to consume one invocation for the source.
+     * <p>
+     * Sources that are not players, such as the console, are never limited.
+     *
+     * @param source the source invoking the command; must not be null
+     * @return true if the invocation is allowed
+     */
+    public boolean tryAcquire(@NotNull CommandSource<?, ?> source) {
+        if (!source.isPlayer()) return true;
+        Player<?> player = source.asPlayer();
+        return player == null || tryAcquire(player.getUniqueId());
+    }
+
+    /**
+     * Attempts to consume one invocation for the specified key.
+     *
+     * @param key the key of the bucket, usually the UUID of a player or an operator; must not be null
+     * @return true if the invocation is allowed
+     */
+    public boolean tryAcquire(@NotNull UUID key) {
+        long now = now();
+        sweep(now);
+        AtomicLong bucket = buckets.get(key);
+        if (bucket == null) {
+            AtomicLong created = new AtomicLong(pack(now, full - ONE));
+            bucket = buckets.putIfAbsent(key, created);
+            if (bucket == null) return true;
+        }
+        for (; ; ) {
+            long state = bucket.get();
+            long time = state >>> TOKEN_BITS;
+            long tokens = state & TOKEN_MASK;
+            if (tokens < full) {
+                long elapsed = now - time;
+                long refill = (long) (elapsed * refillPerMilli);
+                if (tokens + refill >= full) {
+                    tokens = full;
+                    time = now;
+                } else if (refill > 0) {
+                    // advance only by the time the credited tokens cover, the remainder counts towards the next one
+                    tokens += refill;
+                    time += Math.min(elapsed, (long) Math.ceil(refill / refillPerMilli));
+                }
+            } else {
+                time = now;
+            }
+            if (tokens < ONE) return false;
+            if (bucket.compareAndSet(state, pack(time, tokens - ONE))) return true;
+        }
+    }
+
+    private static long pack(long time, long tokens) {
+        return time << TOKEN_BITS | tokens;
+    }
+
+    // removing a bucket that is full again loses nothing; a racing acquisition loses at most one token
+    private void sweep(long now) {
+        long next = nextSweep.get();
+        if (now < next || !nextSweep.compareAndSet(next, now + sweepIntervalMillis)) return;
+        buckets.values().removeIf(bucket -> now - (bucket.get() >>> TOKEN_BITS) >= fillMillis);
+    }
+
+    /**
+     * Refills the bucket of the specified key.
+     *
+     * @param key the key of the bucket; must not be null
+     */
+    public void reset(@NotNull UUID key) {
+        buckets.remove(key);
+    }
+
+    /**
+     * Refills every bucket.
+     */
+    public void clear() {
+        buckets.clear();
+    }
+
+    /**
+     * Retrieves the number of buckets currently tracked.
+     *
+     * @return the number of buckets
+     */
+    public int size() {
+        return buckets.size();
+    }
+
+    /**
+     * Retrieves the number of invocations a source may burst.
+     *
+     * @return the capacity of a bucket
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Retrieves the number of invocations regained per second.
+     *
+     * @return the refill rate
+     */
+    public double getRefillPerSecond() {
+        return refillPerSecond;
+    }
+}
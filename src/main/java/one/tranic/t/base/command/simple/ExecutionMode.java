@@ -0,0 +1,19 @@
+package one.tranic.t.base.command.simple;
+
+/**
+ * Determines on which thread {@link SimpleCommand#dispatch(one.tranic.t.base.command.source.CommandSource)}
+ * runs the body of a command.
+ */
+public enum ExecutionMode {
+    /**
+     * The command runs on the thread the platform invoked it on, which is the main thread on most servers.
+     * Use this for commands that access the world or other state owned by the main thread.
+     */
+    SYNC,
+    /**
+     * The command runs on {@link one.tranic.t.base.TBase#executor}, and player messages sent through
+     * {@code sendResult} are handed back to the platform thread. Use this for commands that mostly wait
+     * on I/O, such as profile lookups or update checks.
+     */
+    ASYNC
+}
@@ -1,10 +1,20 @@
 package one.tranic.t.base.command.simple;
 
 import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
 import one.tranic.t.base.TBase;
+import one.tranic.t.base.command.limit.RateLimiter;
+import one.tranic.t.base.command.source.AsyncConsoleSink;
 import one.tranic.t.base.command.source.CommandSource;
+import one.tranic.t.base.message.RenderCache;
+import one.tranic.t.base.metrics.CommandMetrics;
+import one.tranic.t.base.player.Player;
 import one.tranic.t.utils.minecraft.Platform;
 
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
 /**
  * Abstract base class representing a command in a multi-platform environment.
  * <p>
@@ -14,6 +24,14 @@ import one.tranic.t.utils.minecraft.Platform;
  * @param <C> the type of the command source, extending from {@link CommandSource}
  */
 public abstract class SimpleCommand<C extends CommandSource<?, ?>> implements SimpleCommandImpl<C> {
+    private static final Logger LOGGER = Logger.getLogger(SimpleCommand.class.getName());
+    private static final Component EXECUTION_FAILED = Component.text("An internal error occurred while executing this command.", NamedTextColor.RED);
+    private static final ThreadLocal<Boolean> ASYNC_EXECUTION = new ThreadLocal<>();
+    private ExecutionMode executionMode = ExecutionMode.SYNC;
+    private RateLimiter rateLimiter;
+    private RateLimiter suggestionRateLimiter;
+    private SuggestionCache suggestionCache;
+    private CommandMetrics.CommandStats stats;
     private String name;
     private String description;
     private String usage;
@@ -24,6 +42,88 @@ public abstract class SimpleCommand<C extends CommandSource<?, ?>> implements Si
         return source.hasPermission(getPermission());
     }
 
+    /**
+     * Runs the command for the specified source according to its {@link ExecutionMode}.
+     * <p>
+     * Platform command adapters should call this method instead of {@link #execute(CommandSource)}.
+     * Invocations rejected by the {@linkplain #setRateLimiter(RateLimiter) rate limiter} are dropped silently.
+     * In {@link ExecutionMode#ASYNC} mode the command runs on {@link TBase#executor}; anything thrown by it
+     * is logged with its stack trace, and a player source receives a generic error message. The execution time is recorded in {@link CommandMetrics}.
+     *
+     * @param source the source executing the command
+     */
+    public final void dispatch(C source) {
+        RateLimiter limiter = rateLimiter;
+        if (limiter != null && !limiter.tryAcquire(source)) return;
+        if (executionMode == ExecutionMode.SYNC) {
+            long start = System.nanoTime();
+            try {
+                execute(source);
+            } finally {
+                record(CommandMetrics.Phase.EXECUTE_SYNC, start, source);
+            }
+            return;
+        }
+        TBase.runAsync(() -> {
+            ASYNC_EXECUTION.set(Boolean.TRUE);
+            long start = System.nanoTime();
+            try {
+                execute(source);
+            } catch (Throwable e) {
+                LOGGER.log(Level.SEVERE, "Failed to execute command " + getName() + " for " + describe(source), e);
+                sendResult(source, EXECUTION_FAILED, false);
+            } finally {
+                record(CommandMetrics.Phase.EXECUTE_ASYNC, start, source);
+                ASYNC_EXECUTION.remove();
+            }
+        });
+    }
+
+    /**
+     * Provides the suggestions for the specified source.
+     * <p>
+     * Platform command adapters should call this method instead of {@link #suggest(CommandSource)}.
+     * Requests rejected by the {@linkplain #setSuggestionRateLimiter(RateLimiter) suggestion rate limiter}
+     * receive no suggestions. If a {@linkplain #setSuggestionCache(SuggestionCache) suggestion cache} is set,
+     * follow-up keystrokes are answered by filtering the previous suggestions.
+     * The time spent is recorded in {@link CommandMetrics}.
+     *
+     * @param source the source requesting suggestions
+     * @return the suggestions, or an empty list
+     */
+    public final List<String> dispatchSuggest(C source) {
+        RateLimiter limiter = suggestionRateLimiter;
+        if (limiter != null && !limiter.tryAcquire(source)) return List.of();
+        long start = System.nanoTime();
+        try {
+            SuggestionCache cache = suggestionCache;
+            return cache != null ? cache.suggest(source, this::suggest) : suggest(source);
+        } finally {
+            record(CommandMetrics.Phase.SUGGEST, start, source);
+        }
+    }
+
+    private void record(CommandMetrics.Phase phase, long start, C source) {
+        long elapsed = System.nanoTime() - start;
+        CommandMetrics.CommandStats stats = this.stats;
+        if (stats == null) {
+            String name = getName();
+            this.stats = stats = CommandMetrics.of(name != null ? name : getClass().getName());
+        }
+        stats.record(phase, elapsed, elapsed >= CommandMetrics.getSlowThresholdNanos() ? describe(source) : null);
+    }
+
+    private static String describe(CommandSource<?, ?> source) {
+        Player<?> player = source.isPlayer() ? source.asPlayer() : null;
+        return player != null ? player.getUsername() : "console";
+    }
+
+    // during an asynchronous execution, player messages go back through the platform thread
+    private static void deliver(Runnable send) {
+        if (ASYNC_EXECUTION.get() != null) TBase.getLoader().execute(send);
+        else send.run();
+    }
+
     /**
      * Sends a result message to a specified source.
      *
@@ -37,14 +137,22 @@ public abstract class SimpleCommand<C extends CommandSource<?, ?>> implements Si
     /**
      * Sends a message result to a given source, taking into account whether the source is
      * a Bedrock player, a standard player, or whether the message should also be sent to the console.
+     * <p>
+     * Messages marked with {@link RenderCache#retain(Component)} are rendered through {@link RenderCache#shared()},
+     * so they are only translated once per locale; other messages are sent as they are. The console copy is written by {@link AsyncConsoleSink#shared()},
+     * so console I/O does not block the calling thread.
      *
      * @param source      the source to which the result should be sent; can be a player or other entity
      * @param msg         the message to be sent, represented as a {@link Component}
      * @param withConsole if true, the message will also be sent to the console
      */
     public void sendResult(C source, Component msg, boolean withConsole) {
-        if (source.isPlayer()) source.sendMessage(msg);
-        if (withConsole) TBase.INSTANCE.getConsoleSource().sendMessage(msg);
+        if (source.isPlayer()) {
+            RenderCache cache = RenderCache.shared();
+            Component rendered = cache.isRetained(msg) ? cache.render(source, msg) : msg;
+            deliver(() -> source.sendMessage(rendered));
+        }
+        if (withConsole) AsyncConsoleSink.shared().send(msg);
     }
 
     /**
@@ -59,14 +167,93 @@ public abstract class SimpleCommand<C extends CommandSource<?, ?>> implements Si
 
     /**
      * Sends a result message to the specified source and optionally to the console.
+     * <p>
+     * The console copy is written by {@link AsyncConsoleSink#shared()}.
      *
      * @param source      the source to which the result is sent; it can represent a player or another entity
      * @param msg         the message to be sent
      * @param withConsole whether the message should also be sent to the console
      */
     public void sendResult(C source, String msg, boolean withConsole) {
-        if (source.isPlayer()) source.sendMessage(msg);
-        if (withConsole) TBase.INSTANCE.getConsoleSource().sendMessage(msg);
+        if (source.isPlayer()) deliver(() -> source.sendMessage(msg));
+        if (withConsole) AsyncConsoleSink.shared().send(msg);
+    }
+
+    /**
+     * Retrieves the thread on which {@link #dispatch(CommandSource)} runs this command.
+     *
+     * @return the execution mode, {@link ExecutionMode#SYNC} by default
+     */
+    public ExecutionMode getExecutionMode() {
+        return executionMode;
+    }
+
+    /**
+     * Sets the thread on which {@link #dispatch(CommandSource)} runs this command.
+     *
+     * @param executionMode the execution mode
+     */
+    public void setExecutionMode(ExecutionMode executionMode) {
+        this.executionMode = executionMode;
+    }
+
+    /**
+     * Retrieves the rate limiter applied to executions of this command.
+     *
+     * @return the rate limiter, or null if executions are not limited
+     */
+    public RateLimiter getRateLimiter() {
+        return rateLimiter;
+    }
+
+    /**
+     * Sets the rate limiter applied to executions of this command by players.
+     *
+     * @param rateLimiter the rate limiter, or null to remove the limit
+     */
+    public void setRateLimiter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    /**
+     * Retrieves the rate limiter applied to suggestion requests for this command.
+     *
+     * @return the rate limiter, or null if suggestion requests are not limited
+     */
+    public RateLimiter getSuggestionRateLimiter() {
+        return suggestionRateLimiter;
+    }
+
+    /**
+     * Sets the rate limiter applied to suggestion requests for this command by players.
+     * <p>
+     * Clients request suggestions on every keystroke, so this limiter is separate from the execution one
+     * and should allow larger bursts.
+     *
+     * @param suggestionRateLimiter the rate limiter, or null to remove the limit
+     */
+    public void setSuggestionRateLimiter(RateLimiter suggestionRateLimiter) {
+        this.suggestionRateLimiter = suggestionRateLimiter;
+    }
+
+    /**
+     * Retrieves the cache answering repeated suggestion requests for this command.
+     *
+     * @return the suggestion cache, or null if suggestions are always computed
+     */
+    public SuggestionCache getSuggestionCache() {
+        return suggestionCache;
+    }
+
+    /**
+     * Sets the cache answering repeated suggestion requests for this command.
+     * <p>
+     * Only use a cache if the suggestions of this command depend on nothing but the preceding arguments.
+     *
+     * @param suggestionCache the suggestion cache, or null to always compute suggestions
+     */
+    public void setSuggestionCache(SuggestionCache suggestionCache) {
+        this.suggestionCache = suggestionCache;
     }
 
     /**
@@ -91,6 +278,7 @@ public abstract class SimpleCommand<C extends CommandSource<?, ?>> implements Si
         } else {
             this.name = name;
         }
+        this.stats = null;
     }
 
     /**
@@ -0,0 +1,141 @@
+package one.tranic.t.base.command.simple;
+
+import one.tranic.t.base.command.source.CommandSource;
+import one.tranic.t.base.player.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Remembers the last suggestions computed for each player of a command.
+ * <p>
+ * Clients request suggestions on every keystroke. When a request has the same preceding arguments as the previous
+ * one of the same player, arrives within the cache window and only extends the last argument, the new suggestions
+ * are obtained by filtering the previous ones by the longer prefix instead of calling
+ * {@link SimpleCommandImpl#suggest(CommandSource)} again.
+ * <p>
+ * This requires that the suggestions of a command only depend on the preceding arguments and are filtered
+ * case-insensitively by the prefix of the last argument, which is why the cache is opt-in.
+ * <p>
+ * usage:
+ * <pre>
+ *     setSuggestionCache(new SuggestionCache(2, TimeUnit.SECONDS));
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public final class SuggestionCache {
+    private static final int SWEEP_SIZE = 256;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final long windowNanos;
+
+    /**
+     * Constructs a cache keeping suggestions for the specified time after they were last used.
+     *
+     * @param window the time suggestions stay valid
+     * @param unit   the unit of the window
+     */
+    public SuggestionCache(long window, @NotNull TimeUnit unit) {
+        this.windowNanos = unit.toNanos(window);
+    }
+
+    /**
+     * Provides the suggestions for the source, from the cache if possible.
+     * <p>
+     * Sources that are not players are not cached. A null result of {@code compute} is treated as empty,
+     * and null suggestions are left out.
+     *
+     * @param source  the source requesting suggestions; must not be null
+     * @param compute computes the suggestions on a cache miss; must not be null
+     * @param <C>     the type of the command source
+     * @return the suggestions
+     */
+    public <C extends CommandSource<?, ?>> @NotNull List<String> suggest(@NotNull C source,
+                                                                        @NotNull Function<C, List<String>> compute) {
+        Player<?> player = source.isPlayer() ? source.asPlayer() : null;
+        if (player == null) return new ArrayList<>(nonNull(compute.apply(source)));
+
+        String[] args = source.getArgs();
+        int last = args.length - 1;
+        String prefix = last >= 0 ? args[last] : "";
+        long now = System.nanoTime();
+        UUID key = player.getUniqueId();
+
+        Entry entry = entries.get(key);
+        if (entry != null && now - entry.time <= windowNanos && entry.matches(args, last, prefix)) {
+            List<String> filtered = entry.prefix.length() == prefix.length() ? entry.candidates : filter(entry.candidates, prefix);
+            entries.put(key, new Entry(entry.preceding, prefix, filtered, now));
+            return new ArrayList<>(filtered);
+        }
+
+        List<String> candidates = nonNull(compute.apply(source));
+        if (entries.size() >= SWEEP_SIZE) entries.values().removeIf(e -> now - e.time > windowNanos);
+        entries.put(key, new Entry(Arrays.copyOf(args, Math.max(0, last)), prefix, candidates, now));
+        return new ArrayList<>(candidates);
+    }
+
+    // a null list counts as empty and null elements are dropped, as the cached list is filtered later
+    private static List<String> nonNull(@Nullable List<String> candidates) {
+        if (candidates == null) return List.of();
+        List<String> result = new ArrayList<>(candidates.size());
+        for (String candidate : candidates) {
+            if (candidate != null) result.add(candidate);
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private static List<String> filter(List<String> candidates, String prefix) {
+        List<String> filtered = new ArrayList<>(candidates.size());
+        for (String candidate : candidates) {
+            if (candidate.regionMatches(true, 0, prefix, 0, prefix.length())) filtered.add(candidate);
+        }
+        return filtered;
+    }
+
+    /**
+     * Discards the cached suggestions of the specified player.
+     *
+     * @param uuid the UUID of the player; must not be null
+     */
+    public void invalidate(@NotNull UUID uuid) {
+        entries.remove(uuid);
+    }
+
+    /**
+     * Discards all cached suggestions.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private static final class Entry {
+        private final String[] preceding;
+        private final String prefix;
+        private final List<String> candidates;
+        private final long time;
+
+        private Entry(String[] preceding, String prefix, List<String> candidates, long time) {
+            this.preceding = preceding;
+            this.prefix = prefix;
+            this.candidates = candidates;
+            this.time = time;
+        }
+
+        private boolean matches(String[] args, int last, String prefix) {
+            if (Math.max(0, last) != preceding.length) return false;
+            for (int i = 0; i < preceding.length; i++) {
+                if (!preceding[i].equals(args[i])) return false;
+            }
+            return prefix.regionMatches(true, 0, this.prefix, 0, this.prefix.length());
+        }
+    }
+}
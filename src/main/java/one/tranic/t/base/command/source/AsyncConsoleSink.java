@@ -0,0 +1,271 @@
+package one.tranic.t.base.command.source;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import one.tranic.t.base.TBase;
+import one.tranic.t.base.message.RenderCache;
+import one.tranic.t.thread.T2hread;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Writes messages to a {@link SystemCommandSource} from a dedicated thread.
+ * <p>
+ * Callers only enqueue the message into a bounded lock-free ring buffer, which never blocks;
+ * the writer thread drains it in batches and performs the actual console I/O. Identical consecutive
+ * messages of a batch are written once with a repeat count, and messages offered while the buffer is full
+ * are dropped and counted, see {@link #getDropped()}.
+ * <p>
+ * usage:
+ * <pre>
+ *     AsyncConsoleSink.shared().send(message);
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public class AsyncConsoleSink implements AutoCloseable, Runnable {
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final int BATCH_SIZE = 256;
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+    private static final Logger LOGGER = Logger.getLogger(AsyncConsoleSink.class.getName());
+    private static AsyncConsoleSink shared;
+
+    private final SystemCommandSource<?, ?> console;
+    private final Object[] buffer;
+    private final AtomicLongArray sequences;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+    private long head;
+    private long reportedDropped;
+    private volatile boolean idle;
+    private volatile Thread writerThread;
+
+    /**
+     * Constructs a sink for the specified console with a buffer of 4096 messages.
+     *
+     * @param console the console to write to; must not be null
+     */
+    public AsyncConsoleSink(@NotNull SystemCommandSource<?, ?> console) {
+        this(console, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Constructs a sink for the specified console.
+     *
+     * @param console  the console to write to; must not be null
+     * @param capacity the number of messages the buffer holds, rounded up to a power of two
+     */
+    public AsyncConsoleSink(@NotNull SystemCommandSource<?, ?> console, int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.console = console;
+        this.buffer = new Object[size];
+        this.sequences = new AtomicLongArray(size);
+        this.mask = size - 1;
+        for (int i = 0; i < size; i++) sequences.set(i, i);
+    }
+
+    /**
+     * Retrieves the sink writing to {@link TBase#getConsoleSource()}, starting it on first use.
+     *
+     * @return the shared console sink
+     */
+    public static synchronized @NotNull AsyncConsoleSink shared() {
+        if (shared == null) {
+            shared = new AsyncConsoleSink(TBase.INSTANCE.getConsoleSource());
+            shared.start();
+        }
+        return shared;
+    }
+
+    /**
+     * Stops the shared sink, if it has been started, after writing the messages it still holds.
+     */
+    public static synchronized void closeShared() {
+        if (shared != null) shared.close();
+        shared = null;
+    }
+
+    /**
+     * Enqueues a message for the console.
+     * <p>
+     * The message is rendered for the console through {@link RenderCache#shared()} on the writer thread.
+     * If the sink is not running the message is written on the calling thread instead.
+     *
+     * @param message the message to write; must not be null
+     * @return true if the message was written or enqueued, false if it was dropped because the buffer is full
+     */
+    public boolean send(@NotNull Component message) {
+        return offer(message);
+    }
+
+    /**
+     * Enqueues a message for the console.
+     * <p>
+     * If the sink is not running the message is written on the calling thread instead.
+     *
+     * @param message the message to write; must not be null
+     * @return true if the message was written or enqueued, false if it was dropped because the buffer is full
+     */
+    public boolean send(@NotNull String message) {
+        return offer(message);
+    }
+
+    private boolean offer(Object message) {
+        if (writerThread == null) {
+            write(message, 1);
+            return true;
+        }
+        long t;
+        int index;
+        for (; ; ) {
+            t = tail.get();
+            index = (int) t & mask;
+            long available = sequences.get(index) - t;
+            if (available == 0) {
+                if (tail.compareAndSet(t, t + 1)) break;
+            } else if (available < 0) {
+                dropped.incrementAndGet();
+                return false;
+            }
+        }
+        buffer[index] = message;
+        sequences.set(index, t + 1);
+        Thread writer = writerThread;
+        // the writer may have made its final pass before the message was published
+        if (writer == null) while (drain() > 0) ;
+        else if (idle) LockSupport.unpark(writer);
+        return true;
+    }
+
+    private Object poll() {
+        int index = (int) head & mask;
+        if (sequences.get(index) != head + 1) return null;
+        Object message = buffer[index];
+        buffer[index] = null;
+        sequences.lazySet(index, head + mask + 1);
+        head++;
+        return message;
+    }
+
+    /**
+     * Writes enqueued messages until the sink is closed, then writes the remaining ones.
+     * A message that fails to be written is logged and skipped.
+     * <p>
+     * Use {@link #start()} to run the writer on its own thread.
+     */
+    @Override
+    public void run() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (drain() > 0) continue;
+                idle = true;
+                if (tail.get() == head) LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+                idle = false;
+            }
+        } finally {
+            // later messages are written by their senders
+            if (writerThread == Thread.currentThread()) writerThread = null;
+            while (drain() > 0) ;
+        }
+    }
+
+    private synchronized int drain() {
+        int written = 0;
+        Object last = null;
+        int repeats = 0;
+        for (Object message; written < BATCH_SIZE && (message = poll()) != null; written++) {
+            if (last != null && last.equals(message)) {
+                repeats++;
+                continue;
+            }
+            if (last != null) write(last, repeats);
+            last = message;
+            repeats = 1;
+        }
+        if (last != null) write(last, repeats);
+        long lost = dropped.get();
+        if (lost != reportedDropped) {
+            write(Component.text((lost - reportedDropped) + " console messages were dropped", NamedTextColor.YELLOW), 1);
+            reportedDropped = lost;
+        }
+        return written;
+    }
+
+    private void write(Object message, int repeats) {
+        try {
+            writeNow(message, repeats);
+        } catch (RuntimeException e) {
+            LOGGER.log(Level.WARNING, "Failed to write a console message", e);
+        }
+    }
+
+    private void writeNow(Object message, int repeats) {
+        if (message instanceof Component component) {
+            Component rendered = RenderCache.shared().render(console, component);
+            console.sendMessage(repeats > 1 ? rendered.append(Component.text(" (x" + repeats + ")", NamedTextColor.GRAY)) : rendered);
+        } else {
+            console.sendMessage(repeats > 1 ? message + " (x" + repeats + ")" : (String) message);
+        }
+    }
+
+    /**
+     * Starts the writer on a dedicated daemon thread, stopping any previously started writer first.
+     */
+    public void start() {
+        close();
+        Thread writer = T2hread.newThread(this, "ConsoleSink-Thread", true);
+        writerThread = writer;
+        writer.start();
+    }
+
+    /**
+     * Stops the writer thread if it is running and waits briefly for it to write the messages it still holds.
+     * Messages sent afterwards are written on the calling thread.
+     */
+    @Override
+    public void close() {
+        Thread writer = writerThread;
+        writerThread = null;
+        if (writer == null || !writer.isAlive()) return;
+        writer.interrupt();
+        try {
+            writer.join(TimeUnit.SECONDS.toMillis(1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!writer.isAlive()) while (drain() > 0) ;
+    }
+
+    /**
+     * Retrieves the number of messages dropped because the buffer was full since the sink was created.
+     *
+     * @return the number of dropped messages
+     */
+    public long getDropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Retrieves the approximate number of messages waiting to be written.
+     *
+     * @return the number of pending messages
+     */
+    public int getPending() {
+        return (int) Math.max(0, tail.get() - head);
+    }
+
+    /**
+     * Retrieves the number of messages the buffer holds.
+     *
+     * @return the buffer capacity
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+}
@@ -58,6 +58,18 @@ public interface CommandSource<C, R> {
      */
     int argSize();
 
+    /**
+     * Retrieves the arguments as a single command line, without the command name.
+     * <p>
+     * The default implementation joins {@link #getArgs()} with single spaces;
+     * platforms that have the raw command line should return it instead.
+     *
+     * @return the command line of the arguments
+     */
+    default @NotNull String getInput() {
+        return String.join(" ", getArgs());
+    }
+
     /**
      * Retrieves the locale associated with this source, identifying the language
      * and regional preferences set for the source.
@@ -3,14 +3,23 @@ package one.tranic.t.base.command.source;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.title.Title;
+import one.tranic.t.base.TBase;
+import one.tranic.t.base.TInterface;
+import one.tranic.t.base.message.AudienceFilters;
+import one.tranic.t.base.message.Broadcaster;
 import one.tranic.t.base.player.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Locale;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 @SuppressWarnings("unused")
 public abstract class SystemCommandSource<C, R> implements CommandSource<C, R> {
+    private static final Logger LOGGER = Logger.getLogger(SystemCommandSource.class.getName());
+
     private void unsupported() {
         throw new UnsupportedOperationException("Not supported by this command source");
     }
@@ -65,7 +74,31 @@ public abstract class SystemCommandSource<C, R> implements CommandSource<C, R> {
         unsupported();
     }
 
-    public abstract void broadcastMessage(@NotNull Component message);
+    /**
+     * Sends a message to all online players and to this source.
+     * <p>
+     * The message is rendered once per protocol version and locale through the {@link Broadcaster}.
+     * Failures of a parallel broadcast are logged.
+     *
+     * @param message the message to be sent; must not be null
+     */
+    public void broadcastMessage(@NotNull Component message) {
+        broadcastMessage(message, AudienceFilters.all());
+    }
+
+    /**
+     * Sends a message to the online players accepted by the filter and to this source.
+     *
+     * @param message the message to be sent; must not be null
+     * @param filter  the filter selecting the recipients, see {@link AudienceFilters}; must not be null
+     */
+    public void broadcastMessage(@NotNull Component message, @NotNull Predicate<? super Player<?>> filter) {
+        TInterface<?, ?> instance = TBase.INSTANCE;
+        Broadcaster.broadcast(instance.getOnlinePlayers(), message, filter).whenComplete((unused, e) -> {
+            if (e != null) LOGGER.log(Level.WARNING, "Failed to broadcast a message", e);
+        });
+        sendMessage(message);
+    }
 
     public abstract void broadcastMessage(@NotNull String message);
 
@@ -0,0 +1,108 @@
+package one.tranic.t.base.command.tree;
+
+import one.tranic.t.base.command.source.CommandSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+
+/**
+ * The context of a command invocation resolved by a {@link CommandTree}.
+ * <p>
+ * Holds the source, the raw arguments and the words bound to the argument nodes on the resolved path.
+ *
+ * @param <C> the type of the command source
+ */
+@SuppressWarnings("unused")
+public final class CommandContext<C extends CommandSource<?, ?>> {
+    private final C source;
+    private final String[] args;
+    private String[] names = new String[4];
+    private int[] indices = new int[4];
+    private int greedyIndex = -1;
+    private int count;
+
+    CommandContext(C source, String[] args) {
+        this.source = source;
+        this.args = args;
+    }
+
+    void bind(String name, int index, boolean greedy) {
+        if (count == names.length) {
+            names = Arrays.copyOf(names, count * 2);
+            indices = Arrays.copyOf(indices, count * 2);
+        }
+        names[count] = name;
+        indices[count++] = index;
+        if (greedy) greedyIndex = index;
+    }
+
+    /**
+     * Retrieves the source executing the command.
+     *
+     * @return the command source
+     */
+    public @NotNull C getSource() {
+        return source;
+    }
+
+    /**
+     * Retrieves the raw arguments of the command line.
+     *
+     * @return the arguments
+     */
+    public @NotNull String[] getArgs() {
+        return args;
+    }
+
+    /**
+     * Retrieves the word bound to the argument node with the specified name.
+     * <p>
+     * For a greedy argument this is the rest of the command line, joined with single spaces.
+     *
+     * @param name the name of the argument node; must not be null
+     * @return the bound word, or null if no argument with this name is on the resolved path
+     */
+    public @Nullable String getArgument(@NotNull String name) {
+        int index = indexOf(name);
+        if (index < 0) return null;
+        if (index == greedyIndex && index < args.length - 1)
+            return String.join(" ", Arrays.asList(args).subList(index, args.length));
+        return args[index];
+    }
+
+    /**
+     * Retrieves the word bound to the argument node with the specified name.
+     *
+     * @param name     the name of the argument node; must not be null
+     * @param fallback the value returned if no argument with this name is on the resolved path
+     * @return the bound word, or the fallback
+     */
+    public String getArgument(@NotNull String name, String fallback) {
+        String value = getArgument(name);
+        return value != null ? value : fallback;
+    }
+
+    /**
+     * Determines whether an argument node with the specified name is on the resolved path.
+     *
+     * @param name the name of the argument node; must not be null
+     * @return true if the argument is bound
+     */
+    public boolean hasArgument(@NotNull String name) {
+        return indexOf(name) >= 0;
+    }
+
+    /**
+     * Retrieves the position in {@link #getArgs()} of the word bound to the specified argument node.
+     *
+     * @param name the name of the argument node; must not be null
+     * @return the position of the word, or -1 if the argument is not bound
+     */
+    public int indexOf(@NotNull String name) {
+        for (int i = 0; i < count; i++) {
+            if (names[i].equals(name)) return indices[i];
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,19 @@
+package one.tranic.t.base.command.tree;
+
+import one.tranic.t.base.command.source.CommandSource;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Handles a command that has been resolved to a node of a {@link CommandTree}.
+ *
+ * @param <C> the type of the command source
+ */
+@FunctionalInterface
+public interface CommandHandler<C extends CommandSource<?, ?>> {
+    /**
+     * Executes the command.
+     *
+     * @param context the context of the invocation, holding the source and the parsed arguments; must not be null
+     */
+    void execute(@NotNull CommandContext<C> context);
+}
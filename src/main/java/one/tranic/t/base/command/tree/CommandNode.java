@@ -0,0 +1,234 @@
+package one.tranic.t.base.command.tree;
+
+import one.tranic.t.base.command.source.CommandSource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A node of a {@link CommandTree}.
+ * <p>
+ * A literal node matches a fixed word (case-insensitively) and is resolved through a character trie of its parent.
+ * An argument node matches any word accepted by its validator and binds it under its name in the
+ * {@link CommandContext}. Literal children are always tried before argument children.
+ * <p>
+ * usage:
+ * <pre>
+ *     tree.literal("user")
+ *             .argument("name").suggests(source -&gt; names())
+ *             .literal("ban").requires("example.user.ban").executes(ctx -&gt; ban(ctx.getArgument("name")));
+ * </pre>
+ *
+ * @param <C> the type of the command source
+ */
+@SuppressWarnings("unused")
+public final class CommandNode<C extends CommandSource<?, ?>> {
+    private final String name;
+    private final boolean literal;
+    private final LiteralTrie<CommandNode<C>> literals = new LiteralTrie<>();
+    private final List<CommandNode<C>> arguments = new ArrayList<>(0);
+    private String permission;
+    private CommandHandler<C> handler;
+    private Predicate<String> validator;
+    private Function<? super C, ? extends Collection<String>> suggestions;
+    private boolean greedy;
+
+    CommandNode(String name, boolean literal) {
+        this.name = name;
+        this.literal = literal;
+    }
+
+    /**
+     * Retrieves the literal child with the specified name, creating it if it does not exist.
+     *
+     * @param name    the word matched by the child; must not be empty
+     * @param aliases additional words resolving to the same child
+     * @return the literal child
+     * @throws IllegalArgumentException if the name or an alias is empty, or already resolves to another child
+     */
+    public @NotNull CommandNode<C> literal(@NotNull String name, @NotNull String... aliases) {
+        if (name.isEmpty()) throw new IllegalArgumentException("Literal must not be empty");
+        if (greedy) throw new IllegalStateException("Greedy argument " + this.name + " cannot have children");
+        CommandNode<C> child = literals.get(name);
+        if (child != null && !child.name.equalsIgnoreCase(name))
+            throw new IllegalArgumentException("Literal " + name + " is already an alias of " + child.name);
+        for (String alias : aliases) {
+            if (alias.isEmpty()) throw new IllegalArgumentException("Alias of " + name + " must not be empty");
+            CommandNode<C> existing = literals.get(alias);
+            if (existing != null && existing != child)
+                throw new IllegalArgumentException("Alias " + alias + " of " + name + " conflicts with literal " + existing.name);
+        }
+        if (child == null) {
+            child = new CommandNode<>(name, true);
+            literals.put(name, child);
+        }
+        for (String alias : aliases) literals.put(alias, child);
+        return child;
+    }
+
+    /**
+     * Retrieves the argument child with the specified name, creating it if it does not exist.
+     *
+     * @param name the name the matched word is bound to in the {@link CommandContext}; must not be null
+     * @return the argument child
+     */
+    public @NotNull CommandNode<C> argument(@NotNull String name) {
+        if (greedy) throw new IllegalStateException("Greedy argument " + this.name + " cannot have children");
+        for (CommandNode<C> child : arguments) {
+            if (child.name.equals(name)) return child;
+        }
+        CommandNode<C> child = new CommandNode<>(name, false);
+        arguments.add(child);
+        return child;
+    }
+
+    /**
+     * Sets the handler executed when the command line ends at this node.
+     *
+     * @param handler the handler; must not be null
+     * @return this node
+     */
+    public @NotNull CommandNode<C> executes(@NotNull CommandHandler<C> handler) {
+        this.handler = handler;
+        return this;
+    }
+
+    /**
+     * Restricts this node, and everything below it, to sources that have the specified permission.
+     *
+     * @param permission the permission node, or null to remove the restriction
+     * @return this node
+     */
+    public @NotNull CommandNode<C> requires(@Nullable String permission) {
+        this.permission = permission;
+        return this;
+    }
+
+    /**
+     * Sets the validator deciding which words this argument node matches. By default, every word matches.
+     *
+     * @param validator the validator; must not be null
+     * @return this node
+     * @throws IllegalStateException if this is a literal node
+     */
+    public @NotNull CommandNode<C> validates(@NotNull Predicate<String> validator) {
+        requireArgument();
+        this.validator = validator;
+        return this;
+    }
+
+    /**
+     * Sets the source of the suggestions offered for this argument node.
+     *
+     * @param suggestions a function returning the candidate values for a source; must not be null
+     * @return this node
+     * @throws IllegalStateException if this is a literal node
+     */
+    public @NotNull CommandNode<C> suggests(@NotNull Function<? super C, ? extends Collection<String>> suggestions) {
+        requireArgument();
+        this.suggestions = suggestions;
+        return this;
+    }
+
+    /**
+     * Makes this argument node consume the rest of the command line, for example for a message or a reason.
+     * A greedy node cannot have children.
+     *
+     * @return this node
+     * @throws IllegalStateException if this is a literal node, or if the node already has children
+     */
+    public @NotNull CommandNode<C> greedy() {
+        requireArgument();
+        if (literals.size() > 0 || !arguments.isEmpty())
+            throw new IllegalStateException("Argument " + name + " already has children");
+        this.greedy = true;
+        return this;
+    }
+
+    private void requireArgument() {
+        if (literal) throw new IllegalStateException("Literal " + name + " is not an argument");
+    }
+
+    /**
+     * Retrieves the name of this node, which is the matched word for literals
+     * and the binding name for arguments.
+     *
+     * @return the name of this node
+     */
+    public @NotNull String getName() {
+        return name;
+    }
+
+    /**
+     * Determines whether this node is a literal node.
+     *
+     * @return true for literal nodes, false for argument nodes
+     */
+    public boolean isLiteral() {
+        return literal;
+    }
+
+    /**
+     * Determines whether this argument node consumes the rest of the command line.
+     *
+     * @return true if this node is greedy
+     */
+    public boolean isGreedy() {
+        return greedy;
+    }
+
+    /**
+     * Retrieves the permission required to use this node.
+     *
+     * @return the permission node, or null if the node is unrestricted
+     */
+    public @Nullable String getPermission() {
+        return permission;
+    }
+
+    /**
+     * Retrieves the handler executed at this node.
+     *
+     * @return the handler, or null if the command line cannot end at this node
+     */
+    public @Nullable CommandHandler<C> getHandler() {
+        return handler;
+    }
+
+    boolean canUse(C source) {
+        return permission == null || source.hasPermission(permission);
+    }
+
+    @Nullable CommandNode<C> resolve(C source, String word) {
+        CommandNode<C> child = literals.get(word);
+        if (child != null && child.canUse(source)) return child;
+        for (CommandNode<C> argument : arguments) {
+            if (argument.canUse(source) && (argument.validator == null || argument.validator.test(word)))
+                return argument;
+        }
+        return null;
+    }
+
+    void complete(C source, String prefix, List<String> out) {
+        if (greedy) {
+            completeArgument(source, prefix, out);
+            return;
+        }
+        literals.complete(prefix, child -> child.canUse(source), out);
+        for (CommandNode<C> argument : arguments) {
+            if (argument.canUse(source)) argument.completeArgument(source, prefix, out);
+        }
+    }
+
+    private void completeArgument(C source, String prefix, List<String> out) {
+        if (suggestions == null) return;
+        for (String candidate : suggestions.apply(source)) {
+            if (candidate.regionMatches(true, 0, prefix, 0, prefix.length())) out.add(candidate);
+        }
+    }
+}
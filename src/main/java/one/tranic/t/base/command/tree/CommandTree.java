@@ -0,0 +1,124 @@
+package one.tranic.t.base.command.tree;
+
+import one.tranic.t.base.command.source.CommandSource;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Routes command lines to handlers through a tree of literal and argument nodes.
+ * <p>
+ * Each word of the command line is resolved against the children of the current node, literals first
+ * through a character trie and arguments second, so dispatching takes time proportional to the depth of the
+ * command and not to the number of subcommands. Suggestions are generated from the same tree, and nodes the
+ * source lacks the permission for are neither dispatched to nor suggested.
+ * <p>
+ * usage:
+ * <pre>
+ *     var tree = new CommandTree&lt;C&gt;();
+ *     tree.literal("reload").requires("example.reload").executes(ctx -&gt; reload());
+ *     tree.literal("kick").argument("player").suggests(source -&gt; onlineNames())
+ *             .argument("reason").greedy().executes(ctx -&gt; kick(ctx.getArgument("player"), ctx.getArgument("reason")));
+ *
+ *     if (!tree.dispatch(source)) source.sendMessage(usage);
+ * </pre>
+ *
+ * @param <C> the type of the command source
+ */
+@SuppressWarnings("unused")
+public final class CommandTree<C extends CommandSource<?, ?>> {
+    private final CommandNode<C> root = new CommandNode<>("", true);
+
+    /**
+     * Retrieves the root node, whose handler runs when the command is executed without arguments.
+     *
+     * @return the root node
+     */
+    public @NotNull CommandNode<C> root() {
+        return root;
+    }
+
+    /**
+     * Retrieves the top-level literal with the specified name, creating it if it does not exist.
+     *
+     * @param name    the word matched by the literal; must not be empty
+     * @param aliases additional words resolving to the same literal
+     * @return the literal node
+     */
+    public @NotNull CommandNode<C> literal(@NotNull String name, @NotNull String... aliases) {
+        return root.literal(name, aliases);
+    }
+
+    /**
+     * Retrieves the top-level argument with the specified name, creating it if it does not exist.
+     *
+     * @param name the name the matched word is bound to; must not be null
+     * @return the argument node
+     */
+    public @NotNull CommandNode<C> argument(@NotNull String name) {
+        return root.argument(name);
+    }
+
+    /**
+     * Dispatches the arguments of the source to the matching handler.
+     *
+     * @param source the source executing the command; must not be null
+     * @return true if a handler was executed, false if the arguments did not match an executable node
+     */
+    public boolean dispatch(@NotNull C source) {
+        return dispatch(source, source.getArgs());
+    }
+
+    /**
+     * Dispatches the specified arguments to the matching handler.
+     *
+     * @param source the source executing the command; must not be null
+     * @param args   the arguments of the command line; must not be null
+     * @return true if a handler was executed, false if the arguments did not match an executable node
+     */
+    public boolean dispatch(@NotNull C source, @NotNull String[] args) {
+        CommandContext<C> context = new CommandContext<>(source, args);
+        CommandNode<C> node = root;
+        for (int i = 0; i < args.length; i++) {
+            CommandNode<C> next = node.resolve(source, args[i]);
+            if (next == null) return false;
+            if (!next.isLiteral()) context.bind(next.getName(), i, next.isGreedy());
+            node = next;
+            if (node.isGreedy()) break;
+        }
+        CommandHandler<C> handler = node.getHandler();
+        if (handler == null || !node.canUse(source)) return false;
+        handler.execute(context);
+        return true;
+    }
+
+    /**
+     * Suggests completions for the last argument of the source.
+     *
+     * @param source the source requesting suggestions; must not be null
+     * @return the suggestions, or an empty list if the preceding arguments do not match the tree
+     */
+    public @NotNull List<String> suggest(@NotNull C source) {
+        return suggest(source, source.getArgs());
+    }
+
+    /**
+     * Suggests completions for the last of the specified arguments, which may be partial or empty.
+     *
+     * @param source the source requesting suggestions; must not be null
+     * @param args   the arguments of the command line; must not be null
+     * @return the suggestions, or an empty list if the preceding arguments do not match the tree
+     */
+    public @NotNull List<String> suggest(@NotNull C source, @NotNull String[] args) {
+        CommandNode<C> node = root;
+        int last = args.length - 1;
+        for (int i = 0; i < last && !node.isGreedy(); i++) {
+            node = node.resolve(source, args[i]);
+            if (node == null) return List.of();
+        }
+        List<String> suggestions = new ArrayList<>();
+        node.complete(source, last >= 0 ? args[last] : "", suggestions);
+        return suggestions;
+    }
+}
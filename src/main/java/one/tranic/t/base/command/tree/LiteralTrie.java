@@ -0,0 +1,100 @@
+package one.tranic.t.base.command.tree;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * A case-insensitive character trie mapping literal names to values.
+ * <p>
+ * Lookups walk the characters of the key in place, so resolving a literal neither lowercases
+ * nor copies the argument.
+ *
+ * @param <V> the type of the mapped values
+ */
+final class LiteralTrie<V> {
+    private final Node<V> root = new Node<>();
+    private int size;
+
+    private static char fold(char c) {
+        return Character.toLowerCase(c);
+    }
+
+    /**
+     * Maps a literal to a value.
+     *
+     * @param literal the literal; must not be empty
+     * @param value   the value to map
+     * @return the value previously mapped to the literal, or null
+     */
+    V put(String literal, V value) {
+        Node<V> node = root;
+        for (int i = 0; i < literal.length(); i++) node = node.childOrCreate(fold(literal.charAt(i)));
+        V previous = node.value;
+        node.value = value;
+        node.literal = literal;
+        if (previous == null) size++;
+        return previous;
+    }
+
+    /**
+     * Retrieves the value mapped to a literal, ignoring case.
+     *
+     * @param key the literal to look up
+     * @return the mapped value, or null if the literal is unknown
+     */
+    V get(CharSequence key) {
+        Node<V> node = root;
+        for (int i = 0, length = key.length(); i < length && node != null; i++) node = node.child(fold(key.charAt(i)));
+        return node != null ? node.value : null;
+    }
+
+    /**
+     * Adds the literals starting with the prefix, ignoring case, whose value is accepted by the filter.
+     *
+     * @param prefix the prefix to complete
+     * @param filter the filter applied to the mapped values
+     * @param out    the list receiving the literals
+     */
+    void complete(CharSequence prefix, Predicate<? super V> filter, List<String> out) {
+        Node<V> node = root;
+        for (int i = 0, length = prefix.length(); i < length && node != null; i++) node = node.child(fold(prefix.charAt(i)));
+        if (node != null) collect(node, filter, out);
+    }
+
+    private void collect(Node<V> node, Predicate<? super V> filter, List<String> out) {
+        if (node.value != null && filter.test(node.value)) out.add(node.literal);
+        for (Node<V> child : node.children) collect(child, filter, out);
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static final class Node<V> {
+        private final List<Node<V>> children = new ArrayList<>(0);
+        private char[] keys = new char[0];
+        private int count;
+        private V value;
+        private String literal;
+
+        private Node<V> child(char c) {
+            int index = Arrays.binarySearch(keys, 0, count, c);
+            return index >= 0 ? children.get(index) : null;
+        }
+
+        private Node<V> childOrCreate(char c) {
+            int index = Arrays.binarySearch(keys, 0, count, c);
+            if (index >= 0) return children.get(index);
+            index = -index - 1;
+            if (count == keys.length) keys = Arrays.copyOf(keys, Math.max(2, count * 2));
+            System.arraycopy(keys, index, keys, index + 1, count - index);
+            Node<V> node = new Node<>();
+            keys[index] = c;
+            children.add(index, node);
+            count++;
+            return node;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package one.tranic.t.base.command.tree;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.format.NamedTextColor;
+import one.tranic.t.base.command.simple.SimpleCommand;
+import one.tranic.t.base.command.source.CommandSource;
+
+import java.util.List;
+
+/**
+ * A {@link SimpleCommand} whose subcommands are routed through a {@link CommandTree}.
+ * <p>
+ * Subclasses build the tree in their constructor; execution and suggestions are derived from it.
+ * When the arguments do not match an executable node, the usage of the command is sent to the source.
+ * <p>
+ * usage:
+ * <pre>
+ *     public class AdminCommand&lt;C extends CommandSource&lt;?, ?&gt;&gt; extends TreeCommand&lt;C&gt; {
+ *         public AdminCommand() {
+ *             setName("admin");
+ *             setUsage("/admin &lt;reload|kick&gt;");
+ *             tree().literal("reload").executes(ctx -&gt; reload(ctx.getSource()));
+ *         }
+ *     }
+ * </pre>
+ *
+ * @param <C> the type of the command source
+ */
+public abstract class TreeCommand<C extends CommandSource<?, ?>> extends SimpleCommand<C> {
+    private final CommandTree<C> tree = new CommandTree<>();
+
+    /**
+     * Retrieves the tree routing the arguments of this command.
+     *
+     * @return the command tree
+     */
+    protected CommandTree<C> tree() {
+        return tree;
+    }
+
+    @Override
+    public void execute(C source) {
+        if (tree.dispatch(source)) return;
+        String usage = getUsage();
+        if (usage != null) sendResult(source, Component.text("Usage: " + usage, NamedTextColor.RED), !source.isPlayer());
+    }
+
+    @Override
+    public List<String> suggest(C source) {
+        return tree.suggest(source);
+    }
+}
@@ -0,0 +1,67 @@
+package one.tranic.t.base.exception;
+
+/**
+ * A {@link CommandException} raised when a command argument cannot be parsed.
+ * <p>
+ * Besides the message it carries the command line and the position at which parsing failed,
+ * so the error can be shown to the source with a marker under the offending argument.
+ */
+public class ArgumentException extends CommandException {
+    private static final int CONTEXT_LENGTH = 10;
+
+    private final String reason;
+    private final String input;
+    private final int cursor;
+
+    /**
+     * Constructs a new {@code ArgumentException}.
+     *
+     * @param reason the description of the error, without position information
+     * @param input  the command line being parsed
+     * @param cursor the position in the command line at which parsing failed
+     */
+    public ArgumentException(String reason, CharSequence input, int cursor) {
+        super(reason + " at position " + cursor);
+        this.reason = reason;
+        this.input = input.toString();
+        this.cursor = Math.max(0, Math.min(cursor, input.length()));
+    }
+
+    /**
+     * Retrieves the description of the error, without position information.
+     *
+     * @return the reason of the error
+     */
+    public String getReason() {
+        return reason;
+    }
+
+    /**
+     * Retrieves the command line being parsed.
+     *
+     * @return the command line
+     */
+    public String getInput() {
+        return input;
+    }
+
+    /**
+     * Retrieves the position in the command line at which parsing failed.
+     *
+     * @return the position, between 0 and the length of the input
+     */
+    public int getCursor() {
+        return cursor;
+    }
+
+    /**
+     * Retrieves the part of the command line leading up to the error, followed by a marker,
+     * for example {@code ...ban Steve 1x<--[HERE]}.
+     *
+     * @return the error context
+     */
+    public String getContext() {
+        int start = Math.max(0, cursor - CONTEXT_LENGTH);
+        return (start > 0 ? "..." : "") + input.substring(start, cursor) + "<--[HERE]";
+    }
+}
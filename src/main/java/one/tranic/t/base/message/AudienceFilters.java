@@ -0,0 +1,74 @@
+package one.tranic.t.base.message;
+
+import one.tranic.t.base.player.Location;
+import one.tranic.t.base.player.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * Common recipient filters for {@link Broadcaster}.
+ * <p>
+ * Filters are plain {@link Predicate}s and can be combined with {@link Predicate#and(Predicate)},
+ * {@link Predicate#or(Predicate)} and {@link Predicate#negate()}.
+ */
+@SuppressWarnings("unused")
+public final class AudienceFilters {
+    private static final Predicate<Player<?>> ALL = player -> true;
+    private static final Predicate<Player<?>> BEDROCK = Player::isBedrockPlayer;
+    private static final Predicate<Player<?>> JAVA = player -> !player.isBedrockPlayer();
+
+    private AudienceFilters() {
+    }
+
+    /**
+     * Accepts every player.
+     *
+     * @return a filter accepting every player
+     */
+    public static @NotNull Predicate<Player<?>> all() {
+        return ALL;
+    }
+
+    /**
+     * Accepts players that have the specified permission, as reported by {@link Player#hasPermission(String)}.
+     *
+     * @param permission the permission node to check for; must not be null
+     * @return a filter accepting players with the permission
+     */
+    public static @NotNull Predicate<Player<?>> permission(@NotNull String permission) {
+        return player -> player.hasPermission(permission);
+    }
+
+    /**
+     * Accepts players located in the specified world.
+     *
+     * @param world the name of the world; must not be null
+     * @return a filter accepting players in the world
+     */
+    public static @NotNull Predicate<Player<?>> world(@NotNull String world) {
+        return player -> {
+            Location location = player.getLocation();
+            return location != null && Objects.equals(location.world(), world);
+        };
+    }
+
+    /**
+     * Accepts Bedrock Edition players.
+     *
+     * @return a filter accepting Bedrock players
+     */
+    public static @NotNull Predicate<Player<?>> bedrock() {
+        return BEDROCK;
+    }
+
+    /**
+     * Accepts Java Edition players.
+     *
+     * @return a filter accepting Java players
+     */
+    public static @NotNull Predicate<Player<?>> java() {
+        return JAVA;
+    }
+}
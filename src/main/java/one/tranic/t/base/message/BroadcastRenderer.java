@@ -0,0 +1,32 @@
+package one.tranic.t.base.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.translation.GlobalTranslator;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+
+/**
+ * Renders a message for one group of recipients sharing a locale and a protocol version.
+ * <p>
+ * The {@link Broadcaster} calls the renderer once per distinct (protocol version, locale) pair of an audience
+ * and sends the result to every recipient of that group.
+ */
+@FunctionalInterface
+public interface BroadcastRenderer {
+    /**
+     * The default renderer, which translates the message with the {@link GlobalTranslator}
+     * and does not depend on the protocol version.
+     */
+    BroadcastRenderer TRANSLATING = (message, locale, protocolVersion) -> GlobalTranslator.render(message, locale);
+
+    /**
+     * Renders a message for a group of recipients.
+     *
+     * @param message         the message being broadcast; must not be null
+     * @param locale          the locale shared by the recipients of the group; must not be null
+     * @param protocolVersion the protocol version shared by the recipients of the group, or -1 if unknown
+     * @return the rendered message to send to every recipient of the group
+     */
+    @NotNull Component render(@NotNull Component message, @NotNull Locale locale, int protocolVersion);
+}
@@ -0,0 +1,139 @@
+package one.tranic.t.base.message;
+
+import net.kyori.adventure.text.Component;
+import one.tranic.t.base.TBase;
+import one.tranic.t.base.player.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Predicate;
+
+/**
+ * Sends a message to many players at once.
+ * <p>
+ * Recipients are grouped by protocol version and locale, and the message is rendered once per group
+ * through the configured {@link BroadcastRenderer} instead of once per recipient. Audiences larger than
+ * the parallel threshold are split into chunks that are sent from {@link TBase#executor}.
+ * <p>
+ * usage:
+ * <pre>
+ *     Broadcaster.broadcast(TBase.INSTANCE.getOnlinePlayers(), message);
+ *     Broadcaster.broadcast(TBase.INSTANCE.getOnlinePlayers(), message, AudienceFilters.permission("chat.staff"));
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public final class Broadcaster {
+    private static volatile BroadcastRenderer renderer = RenderCache.shared();
+    private static volatile boolean parallel = true;
+    private static volatile int parallelThreshold = 512;
+    private static volatile int chunkSize = 256;
+
+    private Broadcaster() {
+    }
+
+    /**
+     * Sends a message to every player of the audience.
+     *
+     * @param audience the players to send the message to; must not be null
+     * @param message  the message to send; must not be null
+     * @return a future completing once the message has been handed to every recipient
+     */
+    public static @NotNull CompletableFuture<Void> broadcast(@NotNull Collection<? extends Player<?>> audience,
+                                                             @NotNull Component message) {
+        return broadcast(audience, message, AudienceFilters.all());
+    }
+
+    /**
+     * Sends a message to every player of the audience accepted by the filter.
+     *
+     * @param audience the players to send the message to; must not be null
+     * @param message  the message to send; must not be null
+     * @param filter   the filter selecting the recipients, see {@link AudienceFilters}; must not be null
+     * @return a future completing once the message has been handed to every recipient
+     */
+    public static @NotNull CompletableFuture<Void> broadcast(@NotNull Collection<? extends Player<?>> audience,
+                                                             @NotNull Component message,
+                                                             @NotNull Predicate<? super Player<?>> filter) {
+        Map<Group, List<Player<?>>> groups = new HashMap<>();
+        int recipients = 0;
+        for (Player<?> player : audience) {
+            if (!filter.test(player)) continue;
+            groups.computeIfAbsent(new Group(player.getPlayerProtocolVersion(), player.getLocale()), k -> new ArrayList<>())
+                    .add(player);
+            recipients++;
+        }
+        if (recipients == 0) return CompletableFuture.completedFuture(null);
+
+        BroadcastRenderer r = renderer;
+        boolean split = parallel && recipients >= parallelThreshold;
+        int chunk = Math.max(1, chunkSize);
+        List<CompletableFuture<Void>> futures = split ? new ArrayList<>() : null;
+        for (Map.Entry<Group, List<Player<?>>> entry : groups.entrySet()) {
+            Group group = entry.getKey();
+            Component rendered = r.render(message, group.locale(), group.protocolVersion());
+            List<Player<?>> players = entry.getValue();
+            if (!split) {
+                send(players, 0, players.size(), rendered);
+                continue;
+            }
+            for (int from = 0; from < players.size(); from += chunk) {
+                int start = from, end = Math.min(players.size(), from + chunk);
+                futures.add(TBase.runAsync(() -> send(players, start, end, rendered)));
+            }
+        }
+        return split ? CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])) : CompletableFuture.completedFuture(null);
+    }
+
+    private static void send(List<Player<?>> players, int from, int to, Component message) {
+        for (int i = from; i < to; i++) players.get(i).sendMessage(message);
+    }
+
+    /**
+     * Sets the renderer used to render messages once per recipient group.
+     * <p>
+     * The default renderer is {@link RenderCache#shared()}.
+     *
+     * @param renderer the renderer to use; must not be null
+     */
+    public static void setRenderer(@NotNull BroadcastRenderer renderer) {
+        Broadcaster.renderer = renderer;
+    }
+
+    /**
+     * Enables or disables sending large broadcasts from several threads.
+     * <p>
+     * Disable this on platforms where sending messages off the main thread is not allowed.
+     *
+     * @param parallel true to allow parallel sending
+     */
+    public static void setParallel(boolean parallel) {
+        Broadcaster.parallel = parallel;
+    }
+
+    /**
+     * Sets the number of recipients from which broadcasts are split across worker threads.
+     *
+     * @param threshold the minimum number of recipients for a parallel broadcast
+     */
+    public static void setParallelThreshold(int threshold) {
+        Broadcaster.parallelThreshold = threshold;
+    }
+
+    /**
+     * Sets the number of recipients handled by one worker task of a parallel broadcast.
+     *
+     * @param chunkSize the number of recipients per task
+     */
+    public static void setChunkSize(int chunkSize) {
+        Broadcaster.chunkSize = chunkSize;
+    }
+
+    private record Group(int protocolVersion, Locale locale) {
+    }
+}
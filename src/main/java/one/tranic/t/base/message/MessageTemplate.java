@@ -0,0 +1,181 @@
+package one.tranic.t.base.message;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.ComponentLike;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.Tag;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+
+/**
+ * A MiniMessage template that is parsed once and rendered many times.
+ * <p>
+ * Placeholders are written as self-closing tags ({@code <name>}) and are declared when the template
+ * is compiled. Rendering substitutes the placeholder values into the parsed component tree, so the
+ * MiniMessage parser never runs again and the values are never interpreted as MiniMessage.
+ * Placeholders are only supported in the content of the message, not inside the arguments of other tags.
+ * <p>
+ * usage:
+ * <pre>
+ *     static final MessageTemplate JOINED = MessageTemplate.compile("&lt;gray&gt;&lt;player&gt; joined &lt;server&gt;", "player", "server");
+ *
+ *     player.sendMessage(JOINED.render(name, server));
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public final class MessageTemplate {
+    private static final char MARKER = '\uE000';
+    private static final MiniMessage PARSER = MiniMessage.builder().postProcessor(UnaryOperator.identity()).build();
+
+    private final String template;
+    private final List<String> placeholders;
+    private final Component root;
+    private final Set<Component> paths;
+
+    private MessageTemplate(String template, List<String> placeholders, Component root, Set<Component> paths) {
+        this.template = template;
+        this.placeholders = placeholders;
+        this.root = root;
+        this.paths = paths;
+    }
+
+    /**
+     * Parses a MiniMessage template.
+     *
+     * @param template     the MiniMessage template; must not be null
+     * @param placeholders the names of the placeholders used by the template, in the order
+     *                     their values are passed to {@code render}
+     * @return the compiled template
+     * @throws IllegalArgumentException if a placeholder name is not a valid MiniMessage tag name
+     */
+    public static @NotNull MessageTemplate compile(@NotNull String template, @NotNull String... placeholders) {
+        TagResolver.Builder resolvers = TagResolver.builder();
+        for (int i = 0; i < placeholders.length; i++) {
+            resolvers.resolver(TagResolver.resolver(placeholders[i], Tag.selfClosingInserting(marker(i))));
+        }
+        Component root = PARSER.deserialize(template, resolvers.build());
+        Set<Component> paths = Collections.newSetFromMap(new IdentityHashMap<>());
+        collectPaths(root, paths);
+        return new MessageTemplate(template, List.of(placeholders), root, paths);
+    }
+
+    private static Component marker(int index) {
+        return Component.text(new String(new char[]{MARKER, (char) (MARKER + 1 + index)}));
+    }
+
+    private static int markerIndex(Component component) {
+        if (!(component instanceof TextComponent text)) return -1;
+        String content = text.content();
+        if (content.length() != 2 || content.charAt(0) != MARKER) return -1;
+        return content.charAt(1) - MARKER - 1;
+    }
+
+    private static boolean collectPaths(Component node, Set<Component> paths) {
+        boolean found = markerIndex(node) >= 0;
+        for (Component child : node.children()) {
+            if (collectPaths(child, paths)) found = true;
+        }
+        if (found) paths.add(node);
+        return found;
+    }
+
+    /**
+     * Renders the template without placeholder values; every placeholder renders as an empty component.
+     * <p>
+     * Templates without placeholders always return the same instance.
+     *
+     * @return the rendered message
+     */
+    public @NotNull Component render() {
+        return render(new ComponentLike[0]);
+    }
+
+    /**
+     * Renders the template with the specified placeholder values.
+     *
+     * @param values the values of the placeholders, in the order they were declared;
+     *               missing or {@code null} values render as empty components
+     * @return the rendered message
+     */
+    public @NotNull Component render(@Nullable ComponentLike @NotNull ... values) {
+        if (paths.isEmpty()) return root;
+        return substitute(root, values);
+    }
+
+    /**
+     * Renders the template with the specified placeholder values as plain text.
+     *
+     * @param values the values of the placeholders, in the order they were declared;
+     *               missing or {@code null} values render as empty components
+     * @return the rendered message
+     */
+    public @NotNull Component render(@Nullable String @NotNull ... values) {
+        if (paths.isEmpty()) return root;
+        Component[] components = new Component[values.length];
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) components[i] = Component.text(values[i]);
+        }
+        return substitute(root, components);
+    }
+
+    /**
+     * Renders the template with placeholder values looked up by name.
+     *
+     * @param values the values of the placeholders by name;
+     *               missing or {@code null} values render as empty components
+     * @return the rendered message
+     */
+    public @NotNull Component render(@NotNull Map<String, ? extends ComponentLike> values) {
+        if (paths.isEmpty()) return root;
+        ComponentLike[] ordered = new ComponentLike[placeholders.size()];
+        for (int i = 0; i < ordered.length; i++) ordered[i] = values.get(placeholders.get(i));
+        return substitute(root, ordered);
+    }
+
+    private Component substitute(Component node, ComponentLike[] values) {
+        int index = markerIndex(node);
+        if (index >= 0) {
+            ComponentLike value = index < values.length ? values[index] : null;
+            return value != null ? value.asComponent() : Component.empty();
+        }
+        List<Component> children = node.children();
+        List<Component> replaced = new ArrayList<>(children.size());
+        for (Component child : children) {
+            replaced.add(paths.contains(child) ? substitute(child, values) : child);
+        }
+        return node.children(replaced);
+    }
+
+    /**
+     * Retrieves the MiniMessage source of this template.
+     *
+     * @return the template source
+     */
+    public @NotNull String getTemplate() {
+        return template;
+    }
+
+    /**
+     * Retrieves the names of the placeholders of this template, in declaration order.
+     *
+     * @return an unmodifiable list of placeholder names
+     */
+    public @NotNull List<String> getPlaceholders() {
+        return placeholders;
+    }
+
+    @Override
+    public String toString() {
+        return "MessageTemplate{" + template + '}';
+    }
+}
@@ -0,0 +1,159 @@
+package one.tranic.t.base.message;
+
+import net.kyori.adventure.text.Component;
+import one.tranic.t.base.command.source.CommandSource;
+import one.tranic.t.base.player.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link BroadcastRenderer} that remembers what it has rendered for long-lived messages.
+ * <p>
+ * Only messages marked with {@link #retain(Component)}, such as static constants or compiled templates,
+ * are cached. Their results are keyed by the identity of the message together with the locale and
+ * protocol version, so a retained message is translated once per distinct locale instead of once per
+ * send. Any other message is passed to the underlying renderer every time, as a freshly built component
+ * would never be seen again.
+ * <p>
+ * Cached results do not follow later changes of the translations; call {@link #invalidate()} after
+ * adding or removing translation sources.
+ * <p>
+ * usage:
+ * <pre>
+ *     static final Component RELOADED = RenderCache.shared().retain(Component.translatable("plugin.reloaded"));
+ *
+ *     player.sendMessage(RenderCache.shared().render(player, RELOADED));
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public final class RenderCache implements BroadcastRenderer {
+    private static final RenderCache SHARED = new RenderCache(BroadcastRenderer.TRANSLATING);
+
+    private final BroadcastRenderer renderer;
+    private final Map<Identity, Map<Variant, Component>> retained = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a cache in front of the specified renderer.
+     *
+     * @param renderer the renderer producing the cached results; must not be null
+     */
+    public RenderCache(@NotNull BroadcastRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Retrieves the cache shared by the messaging utilities of this library,
+     * which translates messages with the {@code GlobalTranslator}.
+     *
+     * @return the shared {@code RenderCache}
+     */
+    public static @NotNull RenderCache shared() {
+        return SHARED;
+    }
+
+    /**
+     * Marks a message as long-lived, so its rendered results are cached.
+     * <p>
+     * The message is kept until it is {@link #release(Component) released}; do not retain messages
+     * that are built per send.
+     *
+     * @param message the message to retain; must not be null
+     * @param <T>     the type of the message
+     * @return the message itself
+     */
+    public <T extends Component> @NotNull T retain(@NotNull T message) {
+        retained.computeIfAbsent(new Identity(message), k -> new ConcurrentHashMap<>());
+        return message;
+    }
+
+    /**
+     * Forgets a retained message and its cached results.
+     *
+     * @param message the message to release; must not be null
+     */
+    public void release(@NotNull Component message) {
+        retained.remove(new Identity(message));
+    }
+
+    /**
+     * Checks whether a message has been marked with {@link #retain(Component)}.
+     *
+     * @param message the message to check; must not be null
+     * @return true if the results of the message are cached
+     */
+    public boolean isRetained(@NotNull Component message) {
+        return retained.containsKey(new Identity(message));
+    }
+
+    @Override
+    public @NotNull Component render(@NotNull Component message, @NotNull Locale locale, int protocolVersion) {
+        Map<Variant, Component> variants = retained.get(new Identity(message));
+        if (variants == null) return renderer.render(message, locale, protocolVersion);
+        Variant variant = new Variant(locale, protocolVersion);
+        Component rendered = variants.get(variant);
+        if (rendered != null) return rendered;
+        rendered = renderer.render(message, locale, protocolVersion);
+        Component previous = variants.putIfAbsent(variant, rendered);
+        return previous != null ? previous : rendered;
+    }
+
+    /**
+     * Renders a message for the specified player.
+     *
+     * @param player  the player that will receive the message; must not be null
+     * @param message the message to render; must not be null
+     * @return the rendered message
+     */
+    public @NotNull Component render(@NotNull Player<?> player, @NotNull Component message) {
+        return render(message, player.getLocale(), player.getPlayerProtocolVersion());
+    }
+
+    /**
+     * Renders a message for the specified command source.
+     * <p>
+     * Sources without a locale are rendered with the default locale.
+     *
+     * @param source  the source that will receive the message; must not be null
+     * @param message the message to render; must not be null
+     * @return the rendered message
+     */
+    public @NotNull Component render(@NotNull CommandSource<?, ?> source, @NotNull Component message) {
+        Player<?> player = source.isPlayer() ? source.asPlayer() : null;
+        if (player != null) return render(player, message);
+        Locale locale = source.getLocale();
+        return render(message, locale != null ? locale : Locale.getDefault(), -1);
+    }
+
+    /**
+     * Discards all cached results, keeping the retained messages.
+     * <p>
+     * Call this after the translations used by the underlying renderer have changed.
+     */
+    public void invalidate() {
+        for (Map<Variant, Component> variants : retained.values()) variants.clear();
+    }
+
+    private static final class Identity {
+        private final Component message;
+
+        private Identity(Component message) {
+            this.message = message;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof Identity other && message == other.message;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(message);
+        }
+    }
+
+    private record Variant(Locale locale, int protocolVersion) {
+    }
+}
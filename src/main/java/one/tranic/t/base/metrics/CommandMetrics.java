@@ -0,0 +1,242 @@
+package one.tranic.t.base.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Records how often and how long commands run.
+ * <p>
+ * Every command gets a {@link CommandStats} with separate latency histograms, in microseconds, for synchronous
+ * executions, asynchronous executions and suggestion requests; the invocation counts are the counts of
+ * these histograms. Invocations slower than the threshold additionally commit a JFR event
+ * named {@code one.tranic.t.base.SlowCommand}.
+ * <p>
+ * {@link one.tranic.t.base.command.simple.SimpleCommand} records its executions and suggestions automatically.
+ * <p>
+ * usage:
+ * <pre>
+ *     for (var stats : CommandMetrics.topSlowest(5))
+ *         console.sendMessage(stats.getName() + " p99=" + stats.getExecutionPercentile(99) + "us");
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public final class CommandMetrics {
+    private static final Map<String, CommandStats> COMMANDS = new ConcurrentHashMap<>();
+    private static volatile long slowThresholdNanos = TimeUnit.MILLISECONDS.toNanos(50);
+
+    private CommandMetrics() {
+    }
+
+    /**
+     * Retrieves the statistics of a command, creating them on first use.
+     *
+     * @param command the name of the command; must not be null
+     * @return the statistics of the command
+     */
+    public static @NotNull CommandStats of(@NotNull String command) {
+        CommandStats stats = COMMANDS.get(command);
+        return stats != null ? stats : COMMANDS.computeIfAbsent(command, CommandStats::new);
+    }
+
+    /**
+     * Retrieves the statistics of a command if it has been recorded.
+     *
+     * @param command the name of the command; must not be null
+     * @return the statistics of the command, or null
+     */
+    public static @Nullable CommandStats get(@NotNull String command) {
+        return COMMANDS.get(command);
+    }
+
+    /**
+     * Retrieves the statistics of every recorded command.
+     *
+     * @return an unmodifiable view of the statistics
+     */
+    public static @NotNull Collection<CommandStats> getAll() {
+        return Collections.unmodifiableCollection(COMMANDS.values());
+    }
+
+    /**
+     * Retrieves the commands with the highest 99th percentile execution time, synchronous and asynchronous combined.
+     *
+     * @param n the maximum number of commands to return
+     * @return the slowest commands, slowest first
+     */
+    public static @NotNull List<CommandStats> topSlowest(int n) {
+        Map<CommandStats, Long> p99 = new IdentityHashMap<>();
+        for (CommandStats stats : COMMANDS.values()) p99.put(stats, stats.getExecutionPercentile(99));
+        return top(n, Comparator.comparingLong((CommandStats stats) -> p99.getOrDefault(stats, 0L)).reversed());
+    }
+
+    /**
+     * Retrieves the first commands in the specified order.
+     *
+     * @param n     the maximum number of commands to return
+     * @param order the order of the commands; must not be null
+     * @return the first {@code n} commands in that order
+     */
+    public static @NotNull List<CommandStats> top(int n, @NotNull Comparator<CommandStats> order) {
+        List<CommandStats> all = new ArrayList<>(COMMANDS.values());
+        all.sort(order);
+        return all.size() > n ? new ArrayList<>(all.subList(0, Math.max(0, n))) : all;
+    }
+
+    /**
+     * Sets the duration above which an invocation commits a slow command JFR event.
+     *
+     * @param threshold the threshold
+     * @param unit      the unit of the threshold
+     */
+    public static void setSlowThreshold(long threshold, @NotNull TimeUnit unit) {
+        slowThresholdNanos = unit.toNanos(threshold);
+    }
+
+    /**
+     * Retrieves the duration above which an invocation commits a slow command JFR event.
+     *
+     * @return the threshold in nanoseconds
+     */
+    public static long getSlowThresholdNanos() {
+        return slowThresholdNanos;
+    }
+
+    /**
+     * Discards the recorded values of every command.
+     * <p>
+     * The {@link CommandStats} instances are cleared in place, so commands holding on to theirs keep
+     * recording into the statistics returned by {@link #get(String)} and {@link #getAll()}.
+     */
+    public static void reset() {
+        for (CommandStats stats : COMMANDS.values()) stats.reset();
+    }
+
+    /**
+     * The phase of a command invocation being measured.
+     */
+    public enum Phase {
+        EXECUTE_SYNC, EXECUTE_ASYNC, SUGGEST
+    }
+
+    /**
+     * Invocation statistics of one command.
+     */
+    public static final class CommandStats {
+        private final String name;
+        private final LatencyHistogram sync = new LatencyHistogram();
+        private final LatencyHistogram async = new LatencyHistogram();
+        private final LatencyHistogram suggest = new LatencyHistogram();
+
+        private CommandStats(String name) {
+            this.name = name;
+        }
+
+        /**
+         * Records an invocation of the command.
+         *
+         * @param phase        the measured phase; must not be null
+         * @param elapsedNanos the duration of the invocation in nanoseconds
+         * @param source       a description of the invoking source for slow command events, or null
+         */
+        public void record(@NotNull Phase phase, long elapsedNanos, @Nullable String source) {
+            long micros = TimeUnit.NANOSECONDS.toMicros(Math.max(0, elapsedNanos));
+            switch (phase) {
+                case EXECUTE_SYNC -> sync.record(micros);
+                case EXECUTE_ASYNC -> async.record(micros);
+                case SUGGEST -> suggest.record(micros);
+            }
+            if (elapsedNanos < slowThresholdNanos) return;
+            SlowCommandEvent event = new SlowCommandEvent();
+            if (!event.isEnabled()) return;
+            event.command = name;
+            event.phase = phase.name();
+            event.source = source;
+            event.elapsed = elapsedNanos;
+            event.commit();
+        }
+
+        /**
+         * Discards the recorded values of the command.
+         */
+        public void reset() {
+            sync.reset();
+            async.reset();
+            suggest.reset();
+        }
+
+        /**
+         * Retrieves the name of the command.
+         *
+         * @return the command name
+         */
+        public @NotNull String getName() {
+            return name;
+        }
+
+        /**
+         * Retrieves the histogram of synchronous executions, in microseconds.
+         *
+         * @return the synchronous execution histogram
+         */
+        public @NotNull LatencyHistogram getSyncHistogram() {
+            return sync;
+        }
+
+        /**
+         * Retrieves the histogram of asynchronous executions, in microseconds.
+         *
+         * @return the asynchronous execution histogram
+         */
+        public @NotNull LatencyHistogram getAsyncHistogram() {
+            return async;
+        }
+
+        /**
+         * Retrieves the histogram of suggestion requests, in microseconds.
+         *
+         * @return the suggestion histogram
+         */
+        public @NotNull LatencyHistogram getSuggestHistogram() {
+            return suggest;
+        }
+
+        /**
+         * Retrieves the number of executions, synchronous and asynchronous combined.
+         *
+         * @return the number of executions
+         */
+        public long getExecutions() {
+            return sync.getCount() + async.getCount();
+        }
+
+        /**
+         * Retrieves an execution time percentile, synchronous and asynchronous combined.
+         *
+         * @param percentile the percentile, between 0 and 100
+         * @return the execution time at the percentile in microseconds, or 0 if the command has not run
+         */
+        public long getExecutionPercentile(double percentile) {
+            if (async.getCount() == 0) return sync.getValueAtPercentile(percentile);
+            if (sync.getCount() == 0) return async.getValueAtPercentile(percentile);
+            LatencyHistogram combined = new LatencyHistogram();
+            combined.add(sync);
+            combined.add(async);
+            return combined.getValueAtPercentile(percentile);
+        }
+
+        @Override
+        public String toString() {
+            return "CommandStats{" + name + ", sync=" + sync + ", async=" + async + ", suggest=" + suggest + '}';
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package one.tranic.t.base.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A concurrent histogram of non-negative long values with HDR-style log-linear buckets.
+ * <p>
+ * Values below 64 are counted exactly; larger values are counted in buckets whose width is at most
+ * 1/32 of their lowest value, keeping the relative error of reported percentiles below 3.2%
+ * over the whole {@code long} range with a fixed, small memory footprint.
+ * <p>
+ * Recording a value is a couple of shifts and atomic increments, so histograms can be updated
+ * from hot paths and from several threads at once.
+ */
+@SuppressWarnings("unused")
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 6;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int HALF_SUB_BUCKET_COUNT = SUB_BUCKET_COUNT >> 1;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT + (64 - SUB_BUCKET_BITS) * HALF_SUB_BUCKET_COUNT;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final AtomicLong totalCount = new AtomicLong();
+    private final AtomicLong totalSum = new AtomicLong();
+    private final AtomicLong maxValue = new AtomicLong();
+    private final AtomicLong minValue = new AtomicLong(Long.MAX_VALUE);
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) return (int) value;
+        int shift = 64 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift);
+        return SUB_BUCKET_COUNT + (shift - 1) * HALF_SUB_BUCKET_COUNT + (sub - HALF_SUB_BUCKET_COUNT);
+    }
+
+    private static long highestValueOf(int index) {
+        if (index < SUB_BUCKET_COUNT) return index;
+        int offset = index - SUB_BUCKET_COUNT;
+        int shift = offset / HALF_SUB_BUCKET_COUNT + 1;
+        long sub = offset % HALF_SUB_BUCKET_COUNT + HALF_SUB_BUCKET_COUNT;
+        return (sub << shift) + (1L << shift) - 1;
+    }
+
+    /**
+     * Records a value. Negative values are recorded as zero.
+     *
+     * @param value the value to record
+     */
+    public void record(long value) {
+        if (value < 0) value = 0;
+        counts.incrementAndGet(indexOf(value));
+        totalCount.incrementAndGet();
+        totalSum.addAndGet(value);
+        long max;
+        while (value > (max = maxValue.get()) && !maxValue.compareAndSet(max, value)) {
+            Thread.onSpinWait();
+        }
+        long min;
+        while (value < (min = minValue.get()) && !minValue.compareAndSet(min, value)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Adds all values recorded by another histogram to this histogram.
+     *
+     * @param other the histogram to merge into this one
+     */
+    public void add(LatencyHistogram other) {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long count = other.counts.get(i);
+            if (count != 0) counts.addAndGet(i, count);
+        }
+        totalCount.addAndGet(other.totalCount.get());
+        totalSum.addAndGet(other.totalSum.get());
+        long max;
+        long otherMax = other.maxValue.get();
+        while (otherMax > (max = maxValue.get()) && !maxValue.compareAndSet(max, otherMax)) {
+            Thread.onSpinWait();
+        }
+        long min;
+        long otherMin = other.minValue.get();
+        while (otherMin < (min = minValue.get()) && !minValue.compareAndSet(min, otherMin)) {
+            Thread.onSpinWait();
+        }
+    }
+
+    /**
+     * Retrieves the number of recorded values.
+     *
+     * @return the number of recorded values
+     */
+    public long getCount() {
+        return totalCount.get();
+    }
+
+    /**
+     * Retrieves the largest recorded value.
+     *
+     * @return the largest recorded value, or 0 if no value has been recorded
+     */
+    public long getMax() {
+        return maxValue.get();
+    }
+
+    /**
+     * Retrieves the smallest recorded value.
+     *
+     * @return the smallest recorded value, or 0 if no value has been recorded
+     */
+    public long getMin() {
+        long min = minValue.get();
+        return min == Long.MAX_VALUE ? 0 : min;
+    }
+
+    /**
+     * Retrieves the arithmetic mean of the recorded values.
+     *
+     * @return the mean of the recorded values, or 0 if no value has been recorded
+     */
+    public double getMean() {
+        long count = totalCount.get();
+        return count == 0 ? 0 : (double) totalSum.get() / count;
+    }
+
+    /**
+     * Retrieves the value below which the given percentage of recorded values fall.
+     * <p>
+     * The result is the highest value that is equivalent to the matching bucket,
+     * capped at the largest recorded value.
+     *
+     * @param percentile the percentile to compute, between 0 and 100
+     * @return the value at the given percentile, or 0 if no value has been recorded
+     */
+    public long getValueAtPercentile(double percentile) {
+        long count = totalCount.get();
+        if (count == 0) return 0;
+        double p = Math.min(Math.max(percentile, 0), 100);
+        long target = Math.max(1, (long) Math.ceil(p / 100 * count));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts.get(i);
+            if (seen >= target) return Math.min(highestValueOf(i), getMax());
+        }
+        return getMax();
+    }
+
+    /**
+     * Discards all recorded values.
+     * <p>
+     * Values recorded concurrently with a reset may be partially lost.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) counts.set(i, 0);
+        totalCount.set(0);
+        totalSum.set(0);
+        maxValue.set(0);
+        minValue.set(Long.MAX_VALUE);
+    }
+
+    @Override
+    public String toString() {
+        return "LatencyHistogram{count=" + getCount()
+                + ", min=" + getMin()
+                + ", p50=" + getValueAtPercentile(50)
+                + ", p90=" + getValueAtPercentile(90)
+                + ", p99=" + getValueAtPercentile(99)
+                + ", max=" + getMax() + "}";
+    }
+}
@@ -0,0 +1,207 @@
+package one.tranic.t.base.metrics;
+
+import one.tranic.t.base.TBase;
+import one.tranic.t.base.TInterface;
+import one.tranic.t.base.player.Player;
+import one.tranic.t.base.player.session.PlayerSession;
+import one.tranic.t.thread.T2hread;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Periodically samples the ping of all online players into latency histograms.
+ * <p>
+ * Java and Bedrock players are recorded separately, both for the whole server and per connected host,
+ * so routing problems that only affect one address or one edition show up in the percentiles before
+ * players start to complain.
+ * <p>
+ * usage:
+ * <pre>
+ *     var sampler = new PingSampler(5, TimeUnit.SECONDS);
+ *     sampler.start();
+ *     long p99 = sampler.getJavaHistogram().getValueAtPercentile(99);
+ *     sampler.close();
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public class PingSampler implements AutoCloseable, Runnable {
+    private static final Logger LOGGER = Logger.getLogger(PingSampler.class.getName());
+
+    private final long intervalMillis;
+    private final LatencyHistogram java = new LatencyHistogram();
+    private final LatencyHistogram bedrock = new LatencyHistogram();
+    private final Map<String, HostLatency> hosts = new ConcurrentHashMap<>();
+    private Thread samplerThread;
+
+    /**
+     * Constructs a sampler that samples every 5 seconds.
+     */
+    public PingSampler() {
+        this(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Constructs a sampler with the specified sampling interval.
+     *
+     * @param interval the time between two samples
+     * @param unit     the unit of the interval
+     */
+    public PingSampler(long interval, @NotNull TimeUnit unit) {
+        this.intervalMillis = Math.max(1, unit.toMillis(interval));
+    }
+
+    /**
+     * Samples the ping of all online players until the sampler is closed.
+     * A sample that fails is logged and skipped, the next one is taken after the usual interval.
+     * <p>
+     * Use {@link #start()} to run the sampler on its own thread.
+     */
+    @Override
+    @SuppressWarnings("all")
+    public void run() {
+        try {
+            for (; ; ) {
+                try {
+                    sample();
+                } catch (RuntimeException e) {
+                    LOGGER.log(Level.WARNING, "Failed to sample the ping of online players", e);
+                }
+                TimeUnit.MILLISECONDS.sleep(intervalMillis);
+            }
+        } catch (InterruptedException e) {
+            return;
+        }
+    }
+
+    /**
+     * Starts sampling on a dedicated daemon thread, stopping any previously started sampling first.
+     */
+    public void start() {
+        close();
+        samplerThread = T2hread.newThread(this, "PingSampler-Thread", true);
+        samplerThread.start();
+    }
+
+    /**
+     * Stops the sampling thread if it is running. Recorded values are kept.
+     */
+    @Override
+    public void close() {
+        if (samplerThread != null && samplerThread.isAlive())
+            samplerThread.interrupt();
+        samplerThread = null;
+    }
+
+    /**
+     * Records the current ping of every online player once.
+     */
+    public void sample() {
+        TInterface<?, ?> instance = TBase.INSTANCE;
+        for (Player<?> player : instance.getOnlinePlayers()) {
+            PlayerSession session = player.getSession();
+            boolean isBedrock = session != null ? session.isBedrockPlayer() : player.isBedrockPlayer();
+            long ping = isBedrock && session != null ? session.getBedrockPlayer().ping() : player.getPing();
+            if (ping < 0) continue;
+            (isBedrock ? bedrock : java).record(ping);
+            hosts.computeIfAbsent(player.getConnectedHost(), HostLatency::new).record(isBedrock, ping);
+        }
+    }
+
+    /**
+     * Discards all recorded values, including those of every connected host.
+     */
+    public void reset() {
+        java.reset();
+        bedrock.reset();
+        hosts.clear();
+    }
+
+    /**
+     * Retrieves the histogram of Java Edition player pings for the whole server, in milliseconds.
+     *
+     * @return the Java Edition histogram
+     */
+    public @NotNull LatencyHistogram getJavaHistogram() {
+        return java;
+    }
+
+    /**
+     * Retrieves the histogram of Bedrock Edition player pings for the whole server, in milliseconds.
+     *
+     * @return the Bedrock Edition histogram
+     */
+    public @NotNull LatencyHistogram getBedrockHistogram() {
+        return bedrock;
+    }
+
+    /**
+     * Retrieves the hosts players have connected through since the last reset.
+     *
+     * @return an unmodifiable view of the sampled hosts
+     */
+    public @NotNull Set<String> getHosts() {
+        return Collections.unmodifiableSet(hosts.keySet());
+    }
+
+    /**
+     * Retrieves the histograms of the players connected through the specified host.
+     *
+     * @param host the connected host, as returned by {@link Player#getConnectedHost()}
+     * @return the histograms of the host, or {@code null} if no player of this host has been sampled
+     */
+    public @Nullable HostLatency getHost(@NotNull String host) {
+        return hosts.get(host);
+    }
+
+    /**
+     * Ping histograms of the players connected through one host.
+     */
+    public static final class HostLatency {
+        private final String host;
+        private final LatencyHistogram java = new LatencyHistogram();
+        private final LatencyHistogram bedrock = new LatencyHistogram();
+
+        private HostLatency(String host) {
+            this.host = host;
+        }
+
+        private void record(boolean isBedrock, long ping) {
+            (isBedrock ? bedrock : java).record(ping);
+        }
+
+        /**
+         * Retrieves the connected host these histograms belong to.
+         *
+         * @return the connected host
+         */
+        public @NotNull String getHost() {
+            return host;
+        }
+
+        /**
+         * Retrieves the histogram of Java Edition player pings of this host, in milliseconds.
+         *
+         * @return the Java Edition histogram
+         */
+        public @NotNull LatencyHistogram getJavaHistogram() {
+            return java;
+        }
+
+        /**
+         * Retrieves the histogram of Bedrock Edition player pings of this host, in milliseconds.
+         *
+         * @return the Bedrock Edition histogram
+         */
+        public @NotNull LatencyHistogram getBedrockHistogram() {
+            return bedrock;
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package one.tranic.t.base.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * A JFR event committed when a command takes longer than the threshold of {@link CommandMetrics}.
+ * <p>
+ * The event is recorded by any running flight recording, for example one started with
+ * {@code -XX:StartFlightRecording} or {@code jcmd <pid> JFR.start}.
+ */
+@Name("one.tranic.t.base.SlowCommand")
+@Label("Slow Command")
+@Category({"TBase", "Commands"})
+@Description("A command execution or suggestion request that exceeded the slow command threshold")
+@StackTrace(false)
+final class SlowCommandEvent extends Event {
+    @Label("Command")
+    String command;
+
+    @Label("Phase")
+    @Description("EXECUTE_SYNC, EXECUTE_ASYNC or SUGGEST")
+    String phase;
+
+    @Label("Source")
+    String source;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
@@ -0,0 +1,337 @@
+package one.tranic.t.base.parse.html;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.CharBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Escapes text for HTML and decodes HTML5 character references: all named references, such as {@code &amp;} or {@code &rarr;}, and decimal
+ * or hexadecimal numeric references, such as {@code &#8217;} or {@code &#x27;}.
+ * <p>
+ * The named references are held in a static trie of flat arrays that is walked directly over the input, so no
+ * substring is created per {@code &}. Like a browser, the decoder picks the longest matching name, accepts the
+ * legacy names that may omit the semicolon ({@code &copy}), maps numeric references in the range
+ * {@code 0x80-0x9F} through Windows-1252 and replaces invalid code points with {@code U+FFFD}.
+ * Anything that is not a character reference is kept as is.
+ * <p>
+ * usage:
+ * <pre>
+ *     String text = HTMLEntities.unescape("Caf&eacute; &#8211; &lt;3");
+ *     String html = HTMLEntities.escape(text);
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public final class HTMLEntities {
+    private static final String RESOURCE = "entities.txt";
+    private static final int LOOKAHEAD = 64;
+    private static final int BUFFER_SIZE = 8192;
+    private static final char REPLACEMENT = '\uFFFD';
+    private static final char[] WINDOWS_1252 = {
+            '\u20AC', '\u0081', '\u201A', '\u0192', '\u201E', '\u2026', '\u2020', '\u2021',
+            '\u02C6', '\u2030', '\u0160', '\u2039', '\u0152', '\u008D', '\u017D', '\u008F',
+            '\u0090', '\u2018', '\u2019', '\u201C', '\u201D', '\u2022', '\u2013', '\u2014',
+            '\u02DC', '\u2122', '\u0161', '\u203A', '\u0153', '\u009D', '\u017E', '\u0178'
+    };
+
+    private static final String[] ESCAPES = new String[128];
+
+    // node n owns the edges firstEdge[n] until firstEdge[n + 1], sorted by label
+    private static final int[] FIRST_EDGE;
+    private static final char[] LABELS;
+    private static final int[] TARGETS;
+    private static final int[] VALUE_INDEX;
+    private static final String[] VALUES;
+
+    static {
+        ESCAPES['&'] = "&amp;";
+        ESCAPES['<'] = "&lt;";
+        ESCAPES['>'] = "&gt;";
+        ESCAPES['"'] = "&quot;";
+        ESCAPES['\''] = "&#39;";
+
+        Node root = new Node();
+        List<String> values = new ArrayList<>();
+        try (InputStream in = HTMLEntities.class.getResourceAsStream(RESOURCE)) {
+            if (in == null) throw new IllegalStateException("Missing resource " + RESOURCE);
+            BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+            for (String line; (line = reader.readLine()) != null; ) {
+                if (line.isEmpty() || line.charAt(0) == '#') continue;
+                int separator = line.indexOf('=');
+                StringBuilder value = new StringBuilder(2);
+                for (String codePoint : line.substring(separator + 1).split(","))
+                    value.appendCodePoint(Integer.parseInt(codePoint, 16));
+                Node node = root;
+                for (int i = 0; i < separator; i++) node = node.children.computeIfAbsent(line.charAt(i), c -> new Node());
+                node.value = values.size();
+                values.add(value.toString());
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        // number the nodes breadth first so that the edges of each node are contiguous
+        List<Node> nodes = new ArrayList<>();
+        ArrayDeque<Node> queue = new ArrayDeque<>();
+        queue.add(root);
+        int edges = 0;
+        while (!queue.isEmpty()) {
+            Node node = queue.poll();
+            node.id = nodes.size();
+            nodes.add(node);
+            edges += node.children.size();
+            queue.addAll(node.children.values());
+        }
+        FIRST_EDGE = new int[nodes.size() + 1];
+        LABELS = new char[edges];
+        TARGETS = new int[edges];
+        VALUE_INDEX = new int[nodes.size()];
+        int edge = 0;
+        for (Node node : nodes) {
+            FIRST_EDGE[node.id] = edge;
+            VALUE_INDEX[node.id] = node.value;
+            for (Map.Entry<Character, Node> child : node.children.entrySet()) {
+                LABELS[edge] = child.getKey();
+                TARGETS[edge++] = child.getValue().id;
+            }
+        }
+        FIRST_EDGE[nodes.size()] = edge;
+        VALUES = values.toArray(new String[0]);
+    }
+
+    private HTMLEntities() {
+    }
+
+    private static int nextEscape(CharSequence s, int from, int end) {
+        for (int i = from; i < end; i++) {
+            char c = s.charAt(i);
+            if (c < 128 && ESCAPES[c] != null) return i;
+        }
+        return -1;
+    }
+
+    /**
+     * Escapes the characters {@code & < > " '} for use in HTML text and attribute values.
+     *
+     * @param input the text to escape; must not be null
+     * @return the escaped text, or the input itself if nothing needs escaping
+     */
+    public static @NotNull String escape(@NotNull String input) {
+        int first = nextEscape(input, 0, input.length());
+        if (first < 0) return input;
+        StringBuilder out = new StringBuilder(input.length() + 16);
+        escape(input, first, out);
+        return out.toString();
+    }
+
+    /**
+     * Escapes the characters {@code & < > " '} and appends the result to a builder.
+     *
+     * @param input the text to escape; must not be null
+     * @param out   the builder receiving the escaped text; must not be null
+     */
+    public static void escape(@NotNull CharSequence input, @NotNull StringBuilder out) {
+        int first = nextEscape(input, 0, input.length());
+        if (first < 0) out.append(input);
+        else escape(input, first, out);
+    }
+
+    /**
+     * Escapes the characters {@code & < > " '} and writes the result to an appendable, such as a
+     * {@link java.io.Writer}. Runs of characters that need no escaping are appended in one call.
+     *
+     * @param input the text to escape; must not be null
+     * @param out   the appendable receiving the escaped text; must not be null
+     * @throws IOException if writing fails
+     */
+    public static void escape(@NotNull CharSequence input, @NotNull Appendable out) throws IOException {
+        int end = input.length();
+        int run = 0;
+        for (int i; (i = nextEscape(input, run, end)) >= 0; run = i + 1) {
+            out.append(input, run, i).append(ESCAPES[input.charAt(i)]);
+        }
+        out.append(input, run, end);
+    }
+
+    private static void escape(CharSequence input, int first, StringBuilder out) {
+        int end = input.length();
+        int run = 0;
+        for (int i = first; i >= 0; i = nextEscape(input, run, end)) {
+            out.append(input, run, i).append(ESCAPES[input.charAt(i)]);
+            run = i + 1;
+        }
+        out.append(input, run, end);
+    }
+
+    /**
+     * Decodes all character references in the input.
+     *
+     * @param input the text to decode; must not be null
+     * @return the decoded text, or the input itself if it contains no {@code &}
+     */
+    public static @NotNull String unescape(@NotNull String input) {
+        int amp = input.indexOf('&');
+        if (amp < 0) return input;
+        StringBuilder out = new StringBuilder(input.length());
+        unescape(input, amp, out);
+        return out.toString();
+    }
+
+    /**
+     * Decodes all character references in the input and appends the result to a builder.
+     *
+     * @param input the text to decode; must not be null
+     * @param out   the builder receiving the decoded text; must not be null
+     */
+    public static void unescape(@NotNull CharSequence input, @NotNull StringBuilder out) {
+        unescape(input, 0, out);
+    }
+
+    private static void unescape(CharSequence input, int from, StringBuilder out) {
+        out.append(input, 0, from);
+        decodeRange(input, from, input.length(), input.length(), out);
+    }
+
+    /**
+     * Decodes all character references in the text read from a reader and writes the result to an appendable.
+     * The reader is not closed.
+     *
+     * @param reader the reader supplying the text; must not be null
+     * @param out    the appendable receiving the decoded text; must not be null
+     * @throws IOException if reading or writing fails
+     */
+    public static void unescape(@NotNull Reader reader, @NotNull Appendable out) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        CharBuffer view = CharBuffer.wrap(buffer);
+        StringBuilder chunk = new StringBuilder(BUFFER_SIZE);
+        int length = 0;
+        boolean eof = false;
+        while (!eof) {
+            int read = reader.read(buffer, length, buffer.length - length);
+            if (read < 0) eof = true;
+            else length += read;
+            if (!eof && length < buffer.length) continue;
+
+            // keep the tail back unless the input is complete, a reference starting there may be cut off
+            int limit = eof ? length : length - LOOKAHEAD;
+            int next = decodeRange(view, 0, limit, length, chunk);
+            out.append(chunk);
+            chunk.setLength(0);
+            System.arraycopy(buffer, next, buffer, 0, length - next);
+            length -= next;
+        }
+    }
+
+    /**
+     * Decodes all character references in the text read from a reader. The reader is not closed.
+     *
+     * @param reader the reader supplying the text; must not be null
+     * @return the decoded text
+     * @throws IOException if reading fails
+     */
+    public static @NotNull String unescape(@NotNull Reader reader) throws IOException {
+        StringBuilder out = new StringBuilder(BUFFER_SIZE);
+        unescape(reader, out);
+        return out.toString();
+    }
+
+    /**
+     * Decodes the references starting before {@code limit}, reading at most up to {@code end},
+     * and returns the index of the first character not consumed.
+     */
+    private static int decodeRange(CharSequence s, int start, int limit, int end, StringBuilder out) {
+        int run = start;
+        int i = start;
+        while (i < limit) {
+            if (s.charAt(i) != '&') {
+                i++;
+                continue;
+            }
+            out.append(s, run, i);
+            int next = decode(s, i, end, out);
+            if (next < 0) {
+                out.append('&');
+                next = i + 1;
+            }
+            i = run = next;
+        }
+        out.append(s, run, i);
+        return i;
+    }
+
+    private static int decode(CharSequence s, int amp, int end, StringBuilder out) {
+        int i = amp + 1;
+        if (i < end && s.charAt(i) == '#') return decodeNumeric(s, i + 1, end, out);
+
+        int node = 0;
+        int matchEnd = -1;
+        int matchValue = -1;
+        for (; i < end; i++) {
+            node = child(node, s.charAt(i));
+            if (node < 0) break;
+            if (VALUE_INDEX[node] >= 0) {
+                matchEnd = i + 1;
+                matchValue = VALUE_INDEX[node];
+            }
+        }
+        if (matchEnd < 0) return -1;
+        out.append(VALUES[matchValue]);
+        return matchEnd;
+    }
+
+    private static int child(int node, char c) {
+        int low = FIRST_EDGE[node], high = FIRST_EDGE[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char label = LABELS[mid];
+            if (label < c) low = mid + 1;
+            else if (label > c) high = mid - 1;
+            else return TARGETS[mid];
+        }
+        return -1;
+    }
+
+    private static int decodeNumeric(CharSequence s, int i, int end, StringBuilder out) {
+        boolean hex = i < end && (s.charAt(i) | 0x20) == 'x';
+        if (hex) i++;
+        int digitsStart = i;
+        int code = 0;
+        for (; i < end; i++) {
+            int digit = digit(s.charAt(i), hex);
+            if (digit < 0) break;
+            code = Math.min(code * (hex ? 16 : 10) + digit, Character.MAX_CODE_POINT + 1);
+        }
+        if (i == digitsStart) return -1;
+        if (i < end && s.charAt(i) == ';') i++;
+
+        if (code >= 0x80 && code <= 0x9F) out.append(WINDOWS_1252[code - 0x80]);
+        else if (code == 0 || code > Character.MAX_CODE_POINT || (code >= Character.MIN_SURROGATE && code <= Character.MAX_SURROGATE))
+            out.append(REPLACEMENT);
+        else out.appendCodePoint(code);
+        return i;
+    }
+
+    private static int digit(char c, boolean hex) {
+        if (c >= '0' && c <= '9') return c - '0';
+        if (!hex) return -1;
+        char lower = (char) (c | 0x20);
+        return lower >= 'a' && lower <= 'f' ? lower - 'a' + 10 : -1;
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new TreeMap<>();
+        private int value = -1;
+        private int id;
+    }
+}
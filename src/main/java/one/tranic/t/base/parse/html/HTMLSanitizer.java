@@ -0,0 +1,172 @@
+package one.tranic.t.base.parse.html;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Strips HTML from text in a single pass.
+ * <p>
+ * The sanitizer is a small state machine fed one character at a time, so it works the same over a
+ * {@link CharSequence} and over a {@link Reader}, and never builds intermediate strings. A tag is a {@code <}
+ * followed by at least one character up to the next {@code >}; a {@code <} that is never closed is kept as text.
+ * <p>
+ * usage:
+ * <pre>
+ *     String text = HTMLSanitizer.clean(description);
+ *     String body = HTMLSanitizer.decodeAndStrip(base64Body);
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public final class HTMLSanitizer {
+    private static final int BUFFER_SIZE = 4096;
+
+    private HTMLSanitizer() {
+    }
+
+    /**
+     * Removes HTML tags, turns {@code <br>} tags into line breaks, collapses consecutive line breaks and
+     * consecutive spaces, and trims the result.
+     *
+     * @param input the text to clean; must not be null
+     * @return the cleaned text
+     */
+    public static @NotNull String clean(@NotNull CharSequence input) {
+        Sanitizer sanitizer = new Sanitizer(true, input.length());
+        for (int i = 0, length = input.length(); i < length; i++) sanitizer.accept(input.charAt(i));
+        return sanitizer.finish();
+    }
+
+    /**
+     * Cleans the text read from a reader, see {@link #clean(CharSequence)}. The reader is not closed.
+     *
+     * @param reader the reader supplying the text; must not be null
+     * @return the cleaned text
+     * @throws IOException if reading fails
+     */
+    public static @NotNull String clean(@NotNull Reader reader) throws IOException {
+        return feed(new Sanitizer(true, BUFFER_SIZE), reader);
+    }
+
+    /**
+     * Removes HTML tags and leading whitespace from text, without normalizing line breaks or spaces.
+     *
+     * @param input the text to strip; must not be null
+     * @return the stripped text
+     */
+    public static @NotNull String strip(@NotNull CharSequence input) {
+        Sanitizer sanitizer = new Sanitizer(false, input.length());
+        for (int i = 0, length = input.length(); i < length; i++) sanitizer.accept(input.charAt(i));
+        return sanitizer.finish();
+    }
+
+    /**
+     * Removes HTML tags and leading whitespace from the text read from a reader, see {@link #strip(CharSequence)}.
+     * The reader is not closed.
+     *
+     * @param reader the reader supplying the text; must not be null
+     * @return the stripped text
+     * @throws IOException if reading fails
+     */
+    public static @NotNull String strip(@NotNull Reader reader) throws IOException {
+        return feed(new Sanitizer(false, BUFFER_SIZE), reader);
+    }
+
+    /**
+     * Decodes Base64 encoded UTF-8 text and removes HTML tags and leading whitespace from it.
+     * <p>
+     * The bytes are decoded and stripped as a stream, without materializing the decoded text first.
+     *
+     * @param base64 the Base64 encoded text; must not be null
+     * @return the decoded and stripped text
+     * @throws IllegalArgumentException if the input is not valid Base64
+     */
+    public static @NotNull String decodeAndStrip(@NotNull String base64) {
+        byte[] encoded = base64.getBytes(StandardCharsets.ISO_8859_1);
+        try (Reader reader = new InputStreamReader(Base64.getDecoder().wrap(new ByteArrayInputStream(encoded)), StandardCharsets.UTF_8)) {
+            return feed(new Sanitizer(false, encoded.length * 3 / 4), reader);
+        } catch (IOException e) {
+            // reading from memory only fails on malformed input
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
+    }
+
+    private static String feed(Sanitizer sanitizer, Reader reader) throws IOException {
+        char[] buffer = new char[BUFFER_SIZE];
+        for (int read; (read = reader.read(buffer)) != -1; ) {
+            for (int i = 0; i < read; i++) sanitizer.accept(buffer[i]);
+        }
+        return sanitizer.finish();
+    }
+
+    private static final class Sanitizer {
+        private final boolean normalize;
+        private final StringBuilder out;
+        private final StringBuilder tag = new StringBuilder();
+        private boolean inTag;
+
+        private Sanitizer(boolean normalize, int capacity) {
+            this.normalize = normalize;
+            this.out = new StringBuilder(Math.max(16, capacity));
+        }
+
+        private void accept(char c) {
+            if (inTag) {
+                if (c != '>') {
+                    tag.append(c);
+                    return;
+                }
+                inTag = false;
+                if (tag.isEmpty()) {
+                    emit('<');
+                    emit('>');
+                } else if (normalize && isBreak(tag)) {
+                    emit('\n');
+                }
+                tag.setLength(0);
+                return;
+            }
+            if (c == '<') inTag = true;
+            else emit(c);
+        }
+
+        private void emit(char c) {
+            int length = out.length();
+            if (length == 0) {
+                if (normalize ? c <= ' ' : Character.isWhitespace(c)) return;
+            } else if (normalize && (c == '\n' || c == ' ') && out.charAt(length - 1) == c) {
+                return;
+            }
+            out.append(c);
+        }
+
+        private static boolean isBreak(CharSequence tag) {
+            int length = tag.length();
+            if (length < 2 || (tag.charAt(0) | 0x20) != 'b' || (tag.charAt(1) | 0x20) != 'r') return false;
+            int i = 2;
+            while (i < length && Character.isWhitespace(tag.charAt(i))) i++;
+            if (i < length && tag.charAt(i) == '/') i++;
+            return i == length;
+        }
+
+        private String finish() {
+            if (inTag) {
+                // an unclosed tag is plain text
+                inTag = false;
+                emit('<');
+                for (int i = 0; i < tag.length(); i++) emit(tag.charAt(i));
+            }
+            if (normalize) {
+                int end = out.length();
+                while (end > 0 && out.charAt(end - 1) <= ' ') end--;
+                out.setLength(end);
+            }
+            return out.toString();
+        }
+    }
+}
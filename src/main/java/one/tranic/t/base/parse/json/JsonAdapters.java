@@ -0,0 +1,228 @@
+package one.tranic.t.base.parse.json;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Building blocks for hand-written {@link TypeAdapter}s.
+ * <p>
+ * The readers accept {@code null} where the reflective adapter of Gson does, leaving the default value of the
+ * field. The collection adapters read into {@link ArrayList} and {@link LinkedHashMap}; both keep the document order.
+ */
+@SuppressWarnings("unused")
+public final class JsonAdapters {
+    /**
+     * Reads and writes strings, accepting numbers and booleans as strings.
+     */
+    public static final TypeAdapter<String> STRING = new TypeAdapter<String>() {
+        @Override
+        public void write(JsonWriter out, String value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public String read(JsonReader in) throws IOException {
+            return nextString(in);
+        }
+    };
+
+    /**
+     * Reads and writes integers.
+     */
+    public static final TypeAdapter<Integer> INTEGER = new TypeAdapter<Integer>() {
+        @Override
+        public void write(JsonWriter out, Integer value) throws IOException {
+            out.value(value);
+        }
+
+        @Override
+        public Integer read(JsonReader in) throws IOException {
+            if (in.peek() == JsonToken.NULL) {
+                in.nextNull();
+                return null;
+            }
+            return in.nextInt();
+        }
+    };
+
+    private JsonAdapters() {
+    }
+
+    /**
+     * Reads a string, or null.
+     *
+     * @param in the reader positioned before the value
+     * @return the string, or null if the value is null
+     * @throws IOException if the value is not a string
+     */
+    public static @Nullable String nextString(@NotNull JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        if (token == JsonToken.BOOLEAN) return Boolean.toString(in.nextBoolean());
+        return in.nextString();
+    }
+
+    /**
+     * Reads an integer, or null as 0.
+     *
+     * @param in the reader positioned before the value
+     * @return the integer
+     * @throws IOException if the value is not an integer
+     */
+    public static int nextInt(@NotNull JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return 0;
+        }
+        return in.nextInt();
+    }
+
+    /**
+     * Reads a long integer, or null as 0.
+     *
+     * @param in the reader positioned before the value
+     * @return the long integer
+     * @throws IOException if the value is not a long integer
+     */
+    public static long nextLong(@NotNull JsonReader in) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return 0;
+        }
+        return in.nextLong();
+    }
+
+    /**
+     * Reads a boolean, or null as false. Like Gson, the strings {@code "true"} and {@code "false"} are accepted.
+     *
+     * @param in the reader positioned before the value
+     * @return the boolean
+     * @throws IOException if the value is not a boolean
+     */
+    public static boolean nextBoolean(@NotNull JsonReader in) throws IOException {
+        JsonToken token = in.peek();
+        if (token == JsonToken.NULL) {
+            in.nextNull();
+            return false;
+        }
+        if (token == JsonToken.STRING) return Boolean.parseBoolean(in.nextString());
+        return in.nextBoolean();
+    }
+
+    /**
+     * Creates an adapter for lists of the elements handled by another adapter.
+     *
+     * @param element the adapter of the elements
+     * @param <T>     the type of the elements
+     * @return the list adapter, which accepts null
+     */
+    public static <T> @NotNull TypeAdapter<List<T>> listOf(@NotNull TypeAdapter<T> element) {
+        return new TypeAdapter<List<T>>() {
+            @Override
+            public void write(JsonWriter out, List<T> value) throws IOException {
+                writeList(out, value, element);
+            }
+
+            @Override
+            public List<T> read(JsonReader in) throws IOException {
+                return readList(in, element);
+            }
+        };
+    }
+
+    /**
+     * Reads an array.
+     *
+     * @param in      the reader positioned before the value
+     * @param element the adapter of the elements
+     * @param <T>     the type of the elements
+     * @return the elements, or null if the value is null
+     * @throws IOException if the value is not an array of the elements
+     */
+    public static <T> @Nullable List<T> readList(@NotNull JsonReader in, @NotNull TypeAdapter<T> element) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        List<T> list = new ArrayList<>();
+        in.beginArray();
+        while (in.hasNext()) list.add(element.read(in));
+        in.endArray();
+        return list;
+    }
+
+    /**
+     * Writes an array.
+     *
+     * @param out     the writer
+     * @param list    the elements, or null
+     * @param element the adapter of the elements
+     * @param <T>     the type of the elements
+     * @throws IOException if writing fails
+     */
+    public static <T> void writeList(@NotNull JsonWriter out, @Nullable List<T> list, @NotNull TypeAdapter<T> element) throws IOException {
+        if (list == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginArray();
+        for (T value : list) element.write(out, value);
+        out.endArray();
+    }
+
+    /**
+     * Reads an object as a map.
+     *
+     * @param in    the reader positioned before the value
+     * @param value the adapter of the values
+     * @param <T>   the type of the values
+     * @return the map, or null if the value is null
+     * @throws IOException if the value is not an object of the values
+     */
+    public static <T> @Nullable Map<String, T> readMap(@NotNull JsonReader in, @NotNull TypeAdapter<T> value) throws IOException {
+        if (in.peek() == JsonToken.NULL) {
+            in.nextNull();
+            return null;
+        }
+        Map<String, T> map = new LinkedHashMap<>();
+        in.beginObject();
+        while (in.hasNext()) map.put(in.nextName(), value.read(in));
+        in.endObject();
+        return map;
+    }
+
+    /**
+     * Writes a map as an object.
+     *
+     * @param out   the writer
+     * @param map   the map, or null
+     * @param value the adapter of the values
+     * @param <T>   the type of the values
+     * @throws IOException if writing fails
+     */
+    public static <T> void writeMap(@NotNull JsonWriter out, @Nullable Map<String, T> map, @NotNull TypeAdapter<T> value) throws IOException {
+        if (map == null) {
+            out.nullValue();
+            return;
+        }
+        out.beginObject();
+        for (Map.Entry<String, T> entry : map.entrySet()) {
+            out.name(entry.getKey());
+            value.write(out, entry.getValue());
+        }
+        out.endObject();
+    }
+}
@@ -3,11 +3,14 @@ package one.tranic.t.base.parse.json;
 import com.google.gson.Gson;
 import com.google.gson.JsonIOException;
 import com.google.gson.JsonSyntaxException;
+import com.google.gson.Strictness;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
-import java.io.InputStreamReader;
+import java.io.InputStream;
 import java.io.Reader;
 import java.lang.reflect.Type;
 import java.net.HttpURLConnection;
@@ -30,13 +33,83 @@ public class JsonParser {
      * @throws IOException if an error occurs while reading the response or closing resources
      */
     public static <T> T requestAndParse(HttpURLConnection connection, Type typeOfT) throws IOException {
-        try (InputStreamReader reader = new InputStreamReader(connection.getInputStream())) {
-            return gson.fromJson(reader, typeOfT);
+        return requestAndVisit(connection, reader -> gson.fromJson(reader, typeOfT));
+    }
+
+    /**
+     * Sends an HTTP request using the provided connection and lets a visitor read the response as a stream.
+     * <p>
+     * The response is decoded as UTF-8. The visitor may stop before the end of the document,
+     * in which case the rest of the response is never read.
+     *
+     * @param <T>        the type of the result
+     * @param connection the {@link HttpURLConnection} instance used to send the request
+     * @param visitor    reads the response
+     * @return the result of the visitor
+     * @throws IOException if an error occurs while reading the response or closing resources
+     */
+    public static <T> T requestAndVisit(@NotNull HttpURLConnection connection, @NotNull JsonVisitor<T> visitor) throws IOException {
+        try (JsonReader reader = newReader(connection.getInputStream())) {
+            return visitor.visit(reader);
         } finally {
             connection.disconnect();
         }
     }
 
+    /**
+     * Creates a lenient streaming reader over a UTF-8 encoded JSON stream.
+     * <p>
+     * The byte buffer of the reader is borrowed from a shared pool and returned when the reader is closed,
+     * which also closes the stream.
+     *
+     * @param in the stream containing the JSON content
+     * @return a reader over the stream
+     */
+    public static @NotNull JsonReader newReader(@NotNull InputStream in) {
+        JsonReader reader = new JsonReader(new Utf8Reader(in));
+        reader.setStrictness(Strictness.LENIENT);
+        return reader;
+    }
+
+    /**
+     * Reads the first element of a JSON array and stops, without reading the remaining elements.
+     *
+     * @param <T>      the type of the element
+     * @param reader   the reader positioned before the array
+     * @param classOfT the class of the element
+     * @return the first element, or null if the array is empty
+     * @throws IOException if reading fails or the document is not an array
+     */
+    public static <T> @Nullable T readFirst(@NotNull JsonReader reader, @NotNull Class<T> classOfT) throws IOException {
+        reader.beginArray();
+        if (!reader.hasNext()) return null;
+        try {
+            return gson.fromJson(reader, classOfT);
+        } catch (JsonIOException | JsonSyntaxException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Advances the reader to the value of a property of the current object, skipping the values before it.
+     * <p>
+     * If the reader is positioned before an object, the object is entered first.
+     *
+     * @param reader the reader positioned before or inside an object
+     * @param name   the name of the property
+     * @return true if the reader is positioned before the value of the property,
+     * false if the object has no such property, in which case the reader is at the end of the object
+     * @throws IOException if reading fails or the document is malformed
+     */
+    public static boolean skipTo(@NotNull JsonReader reader, @NotNull String name) throws IOException {
+        if (reader.peek() == JsonToken.BEGIN_OBJECT) reader.beginObject();
+        while (reader.hasNext()) {
+            if (reader.nextName().equals(name)) return true;
+            reader.skipValue();
+        }
+        return false;
+    }
+
     /**
      * Sends a request using the given HttpURLConnection and parses the response into the specified class type.
      *
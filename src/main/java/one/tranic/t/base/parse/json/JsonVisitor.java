@@ -0,0 +1,30 @@
+package one.tranic.t.base.parse.json;
+
+import com.google.gson.stream.JsonReader;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+
+/**
+ * Reads the part of a JSON document it needs from a {@link JsonReader}, and may stop early.
+ * <p>
+ * usage:
+ * <pre>
+ *     String tag = JsonParser.requestAndVisit(connection, reader -&gt;
+ *             JsonParser.skipTo(reader, "tag_name") ? reader.nextString() : null);
+ * </pre>
+ *
+ * @param <T> the type of the result
+ * @see JsonParser#requestAndVisit(java.net.HttpURLConnection, JsonVisitor)
+ */
+@FunctionalInterface
+public interface JsonVisitor<T> {
+    /**
+     * Reads from the document.
+     *
+     * @param reader the reader positioned before the first token of the document
+     * @return the result
+     * @throws IOException if reading fails or the document is malformed
+     */
+    T visit(@NotNull JsonReader reader) throws IOException;
+}
@@ -0,0 +1,72 @@
+package one.tranic.t.base.parse.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ArrayBlockingQueue;
+
+/**
+ * Decodes a UTF-8 byte stream with a byte buffer borrowed from a shared pool, which is returned on close.
+ * Malformed input is replaced with {@code U+FFFD}, as {@link java.io.InputStreamReader} does.
+ */
+final class Utf8Reader extends Reader {
+    private static final int BUFFER_SIZE = 8192;
+    private static final ArrayBlockingQueue<byte[]> POOL = new ArrayBlockingQueue<>(16);
+
+    private final InputStream in;
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private byte[] buffer;
+    private ByteBuffer bytes;
+    private boolean eof;
+    private boolean flushed;
+
+    Utf8Reader(InputStream in) {
+        this.in = in;
+        byte[] pooled = POOL.poll();
+        this.buffer = pooled != null ? pooled : new byte[BUFFER_SIZE];
+        this.bytes = ByteBuffer.wrap(buffer);
+        this.bytes.limit(0);
+    }
+
+    @Override
+    public int read(char[] cbuf, int off, int len) throws IOException {
+        if (buffer == null) throw new IOException("Stream closed");
+        if (len == 0) return 0;
+        if (eof && flushed) return -1;
+        CharBuffer out = CharBuffer.wrap(cbuf, off, len);
+        while (true) {
+            CoderResult result = decoder.decode(bytes, out, eof);
+            if (result.isError()) result.throwException();
+            if (eof && !flushed && result.isUnderflow()) {
+                decoder.flush(out);
+                flushed = true;
+            }
+            int decoded = out.position() - off;
+            if (decoded > 0) return decoded;
+            if (eof) return -1;
+
+            bytes.compact();
+            int read = in.read(buffer, bytes.position(), bytes.remaining());
+            if (read < 0) eof = true;
+            else bytes.position(bytes.position() + read);
+            bytes.flip();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (buffer == null) return;
+        POOL.offer(buffer);
+        buffer = null;
+        bytes = null;
+        in.close();
+    }
+}
@@ -1,4 +1,42 @@
 package one.tranic.t.base.parse.mojang.schemas;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import one.tranic.t.base.parse.json.JsonAdapters;
+
+import java.io.IOException;
+
+@JsonAdapter(ProfileLookup.Adapter.class)
 public record ProfileLookup(String id, String name) {
+    /**
+     * Reads and writes a profile of the Mojang API through the canonical constructor, without reflection.
+     */
+    public static final TypeAdapter<ProfileLookup> ADAPTER = new Adapter().nullSafe();
+
+    static final class Adapter extends TypeAdapter<ProfileLookup> {
+        @Override
+        public void write(JsonWriter out, ProfileLookup value) throws IOException {
+            out.beginObject();
+            out.name("id").value(value.id);
+            out.name("name").value(value.name);
+            out.endObject();
+        }
+
+        @Override
+        public ProfileLookup read(JsonReader in) throws IOException {
+            String id = null, name = null;
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "id" -> id = JsonAdapters.nextString(in);
+                    case "name" -> name = JsonAdapters.nextString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return new ProfileLookup(id, name);
+        }
+    }
 }
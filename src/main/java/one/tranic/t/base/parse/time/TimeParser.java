@@ -2,8 +2,12 @@ package one.tranic.t.base.parse.time;
 
 import one.tranic.t.base.exception.ForeverNonException;
 import one.tranic.t.base.exception.ParseException;
+import org.jetbrains.annotations.Nullable;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
 import java.util.Objects;
 
@@ -13,12 +17,39 @@ import java.util.Objects;
  * and checking time conditions.
  */
 public class TimeParser {
+    /**
+     * The expiry of something that never expires, as returned by {@link #parseExpiry(CharSequence, long)}.
+     * <p>
+     * It is the largest {@code long}, so it compares after every real deadline and
+     * {@link #isExpired(long, long)} needs no special case for it.
+     */
+    public static final long FOREVER = Long.MAX_VALUE;
+    /**
+     * Returned by the duration parsers when the input is null, empty or only whitespace.
+     */
+    public static final long ERROR_EMPTY = -1;
+    /**
+     * Returned by the duration parsers when a unit is not preceded by an amount.
+     */
+    public static final long ERROR_NUMBER = -2;
+    /**
+     * Returned by the duration parsers when an amount is not followed by a supported unit.
+     */
+    public static final long ERROR_UNIT = -3;
+    /**
+     * Returned by the duration parsers when the duration does not fit in a {@code long} of milliseconds.
+     */
+    public static final long ERROR_OVERFLOW = -4;
+
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
 
     /**
      * Parses a time argument string and returns the formatted future time or a special value such as "forever".
+     * <p>
+     * The duration may combine several units, such as {@code 1d12h30m}; months and years are added
+     * according to the calendar.
      *
-     * @param arg the time argument as a string; can be literal "forever" or a duration string with a valid unit
+     * @param arg the time argument as a string; can be literal "forever" or a duration string with valid units
      * @return a formatted string representing the calculated future time, or the literal "forever" for the special case
      * @throws ParseException if the argument is null, empty, contains invalid characters, has an unsupported unit,
      *                        or if the numeric portion of the duration is invalid
@@ -30,44 +61,124 @@ public class TimeParser {
         if (arg.equals("forever")) {
             return "forever";
         }
-        try {
-            LocalDateTime now = LocalDateTime.now();
-            LocalDateTime future = calculateFutureTime(now, arg);
-            return future.format(FORMATTER);
-        } catch (NumberFormatException e) {
-            throw new ParseException("Invalid numeric value in argument: '" + arg + "' - " + e.getMessage());
-        }
+        long code = parseDurationMillis(arg);
+        if (code < 0) throw new ParseException(getErrorMessage(code) + ": '" + arg + "'");
+        return addTo(LocalDateTime.now(), arg).format(FORMATTER);
     }
 
-    private static LocalDateTime calculateFutureTime(LocalDateTime now, String arg) throws ParseException {
-        for (TimeUnit unit : TimeUnit.values()) {
-            if (arg.endsWith(unit.getSuffix())) {
-                long value = parseTimeValue(unit.getSuffix(), arg);
-                return unit.addTime(now, value);
+    // adds a duration that has already been validated by parseDurationMillis
+    private static LocalDateTime addTo(LocalDateTime time, CharSequence s) {
+        int i = 0, end = s.length();
+        while (i < end) {
+            if (Character.isWhitespace(s.charAt(i))) {
+                i++;
+                continue;
             }
+            long amount = 0;
+            for (char c; i < end && (c = s.charAt(i)) >= '0' && c <= '9'; i++) amount = amount * 10 + (c - '0');
+            TimeUnit unit = unitAt(s, i, end);
+            i += unit.getSuffix().length();
+            time = unit.addTime(time, amount);
+        }
+        return time;
+    }
+
+    private static TimeUnit unitAt(CharSequence s, int index, int end) {
+        TimeUnit match = null;
+        for (TimeUnit unit : TimeUnit.VALUES) {
+            String suffix = unit.getSuffix();
+            if (end - index < suffix.length() || (match != null && suffix.length() <= match.getSuffix().length()))
+                continue;
+            boolean matches = true;
+            for (int j = 0; j < suffix.length() && matches; j++) matches = s.charAt(index + j) == suffix.charAt(j);
+            if (matches) match = unit;
         }
-        throw new ParseException("Invalid time format or unsupported time unit: " + arg);
+        return match;
     }
 
     /**
-     * Parses a time value string with a specified unit tag and converts it into a numeric value.
+     * Parses a duration made of one or more amounts followed by a unit, such as {@code 30m} or {@code 1d12h30m}.
+     * <p>
+     * The input is read in a single pass without allocating. Errors are reported as negative codes
+     * instead of exceptions; months and years are counted as 30 and 365 days.
      *
-     * @param tag the unit tag that the time value must end with (e.g., "s" for seconds, "m" for minutes)
-     * @param arg the time value string to parse; must end with the specified tag
-     * @return the numeric value of the time, extracted from the string
-     * @throws ParseException if the provided string does not end with the specified tag,
-     *                        if the numeric value cannot be parsed, or if the value is negative
+     * @param s the duration; may be null
+     * @return the duration in milliseconds, or one of the negative {@code ERROR_} codes
      */
-    private static long parseTimeValue(String tag, String arg) throws ParseException {
-        if (!arg.endsWith(tag)) {
-            throw new ParseException("Time unit '" + tag + "' not found at the end of argument: " + arg);
-        }
-        String numberPart = arg.substring(0, arg.length() - tag.length());
-        long t = Long.parseLong(numberPart);
-        if (t < 0) {
-            throw new ParseException("Time value cannot be negative: " + arg);
+    public static long parseDurationMillis(@Nullable CharSequence s) {
+        return s == null ? ERROR_EMPTY : parseDurationMillis(s, 0, s.length());
+    }
+
+    /**
+     * Parses a duration from a range of characters, see {@link #parseDurationMillis(CharSequence)}.
+     * Whitespace between the parts of the duration is ignored.
+     *
+     * @param s     the characters to parse; must not be null
+     * @param start the index of the first character of the duration
+     * @param end   the index after the last character of the duration
+     * @return the duration in milliseconds, or one of the negative {@code ERROR_} codes
+     */
+    public static long parseDurationMillis(CharSequence s, int start, int end) {
+        long total = 0;
+        boolean empty = true;
+        for (int i = start; i < end; ) {
+            char c = s.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+                continue;
+            }
+            empty = false;
+            long amount = 0;
+            int digits = i;
+            for (; i < end && (c = s.charAt(i)) >= '0' && c <= '9'; i++) {
+                if (amount > (Long.MAX_VALUE - (c - '0')) / 10) return ERROR_OVERFLOW;
+                amount = amount * 10 + (c - '0');
+            }
+            if (i == digits) return ERROR_NUMBER;
+            TimeUnit unit = unitAt(s, i, end);
+            if (unit == null) return ERROR_UNIT;
+            i += unit.getSuffix().length();
+            if (amount > Long.MAX_VALUE / unit.getMillis()) return ERROR_OVERFLOW;
+            long millis = amount * unit.getMillis();
+            if (total > Long.MAX_VALUE - millis) return ERROR_OVERFLOW;
+            total += millis;
         }
-        return t;
+        return empty ? ERROR_EMPTY : total;
+    }
+
+    /**
+     * Parses a duration, see {@link #parseDurationMillis(CharSequence)}.
+     *
+     * @param s the duration; may be null
+     * @return the duration, or null if the input is not a valid duration
+     */
+    public static @Nullable Duration parseDuration(@Nullable CharSequence s) {
+        long millis = parseDurationMillis(s);
+        return millis < 0 ? null : Duration.ofMillis(millis);
+    }
+
+    /**
+     * Determines whether a value returned by the duration parsers is an error code.
+     *
+     * @param result the value returned by a duration parser
+     * @return true if the value is an error code
+     */
+    public static boolean isError(long result) {
+        return result < 0;
+    }
+
+    /**
+     * Describes an error code returned by the duration parsers.
+     *
+     * @param code the error code
+     * @return a description of the error
+     */
+    public static String getErrorMessage(long code) {
+        if (code == ERROR_EMPTY) return "Time argument cannot be null, empty, or only whitespace";
+        if (code == ERROR_NUMBER) return "Missing numeric value before time unit";
+        if (code == ERROR_UNIT) return "Invalid time format or unsupported time unit";
+        if (code == ERROR_OVERFLOW) return "Time value is too large";
+        return code < 0 ? "Unknown error " + code : "No error";
     }
 
     /**
@@ -90,6 +201,138 @@ public class TimeParser {
         }
     }
 
+    /**
+     * Parses an expiry argument, such as {@code 1d12h} or {@code forever}, into an epoch deadline.
+     *
+     * @param arg the expiry argument; may be null
+     * @param now the current time in epoch milliseconds
+     * @return the deadline in epoch milliseconds, {@link #FOREVER}, or one of the negative {@code ERROR_} codes
+     */
+    public static long parseExpiry(@Nullable CharSequence arg, long now) {
+        if (arg == null) return ERROR_EMPTY;
+        if (isForever(arg)) return FOREVER;
+        long duration = parseDurationMillis(arg);
+        if (duration < 0) return duration;
+        return duration > FOREVER - 1 - now ? ERROR_OVERFLOW : now + duration;
+    }
+
+    /**
+     * Parses an expiry argument relative to the current time, see {@link #parseExpiry(CharSequence, long)}.
+     *
+     * @param arg the expiry argument; may be null
+     * @return the deadline in epoch milliseconds, {@link #FOREVER}, or one of the negative {@code ERROR_} codes
+     */
+    public static long parseExpiry(@Nullable CharSequence arg) {
+        return parseExpiry(arg, System.currentTimeMillis());
+    }
+
+    private static boolean isForever(CharSequence arg) {
+        int start = 0, end = arg.length();
+        while (start < end && Character.isWhitespace(arg.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(arg.charAt(end - 1))) end--;
+        if (end - start != 7) return false;
+        for (int i = 0; i < 7; i++) {
+            if (arg.charAt(start + i) != "forever".charAt(i)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Determines whether a deadline has passed.
+     *
+     * @param deadline the deadline in epoch milliseconds, or {@link #FOREVER}
+     * @param now      the current time in epoch milliseconds
+     * @return true if the deadline is not later than now; always false for {@link #FOREVER}
+     */
+    public static boolean isExpired(long deadline, long now) {
+        return deadline <= now;
+    }
+
+    /**
+     * Determines whether a deadline has passed, see {@link #isExpired(long, long)}.
+     *
+     * @param deadline the deadline in epoch milliseconds, or {@link #FOREVER}
+     * @return true if the deadline has passed
+     */
+    public static boolean isExpired(long deadline) {
+        return deadline <= System.currentTimeMillis();
+    }
+
+    /**
+     * Counts the deadlines that have passed.
+     * <p>
+     * The loop has no data-dependent branch, so the JIT can vectorize it.
+     *
+     * @param deadlines the deadlines in epoch milliseconds; must not be null
+     * @param now       the current time in epoch milliseconds
+     * @return the number of expired deadlines
+     */
+    public static int countExpired(long[] deadlines, long now) {
+        int count = 0;
+        for (long deadline : deadlines) count += deadline <= now ? 1 : 0;
+        return count;
+    }
+
+    /**
+     * Finds the deadlines that have passed.
+     *
+     * @param deadlines the deadlines in epoch milliseconds; must not be null
+     * @param now       the current time in epoch milliseconds
+     * @return the indices of the expired deadlines, in ascending order
+     */
+    public static int[] filterExpired(long[] deadlines, long now) {
+        int[] expired = new int[countExpired(deadlines, now)];
+        for (int i = 0, n = 0; n < expired.length; i++) {
+            if (deadlines[i] <= now) expired[n++] = i;
+        }
+        return expired;
+    }
+
+    /**
+     * Writes the indices of the passed deadlines among the first {@code length} ones into a buffer.
+     * <p>
+     * The indices are compacted without branching on the deadlines, so sweeps over large arrays of
+     * expiries stay fast regardless of how many have passed.
+     *
+     * @param deadlines the deadlines in epoch milliseconds; must not be null
+     * @param length    the number of deadlines to check
+     * @param now       the current time in epoch milliseconds
+     * @param out       the buffer receiving the indices; must be at least {@code length} long
+     * @return the number of indices written
+     */
+    public static int filterExpired(long[] deadlines, int length, long now, int[] out) {
+        int count = 0;
+        for (int i = 0; i < length; i++) {
+            out[count] = i;
+            count += deadlines[i] <= now ? 1 : 0;
+        }
+        return count;
+    }
+
+    /**
+     * Converts a time string produced by {@link #parse(String)} into an epoch deadline,
+     * interpreting it in the system time zone.
+     *
+     * @param timeString the formatted time or the literal "forever"; must not be null
+     * @return the deadline in epoch milliseconds, or {@link #FOREVER}
+     * @throws ParseException if the string is not a valid formatted time
+     */
+    public static long toEpochMillis(String timeString) throws ParseException {
+        if (Objects.equals(timeString, "forever")) return FOREVER;
+        return parseStringTime(timeString).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * Formats an epoch deadline in the format of {@link #parse(String)}, in the system time zone.
+     *
+     * @param deadline the deadline in epoch milliseconds, or {@link #FOREVER}
+     * @return the formatted time, or the literal "forever"
+     */
+    public static String formatExpiry(long deadline) {
+        if (deadline == FOREVER) return "forever";
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(deadline), ZoneId.systemDefault()).format(FORMATTER);
+    }
+
     /**
      * Checks if the given LocalDateTime is earlier than the current time.
      *
@@ -16,44 +16,47 @@ import java.time.LocalDateTime;
  * instance and retrieving a unit from its designated string suffix.
  */
 public enum TimeUnit {
-    SECOND("s") {
+    SECOND("s", 1000L) {
         @Override
         public LocalDateTime addTime(LocalDateTime now, long value) {
             return now.plusSeconds(value);
         }
     },
-    MINUTE("m") {
+    MINUTE("m", 60_000L) {
         @Override
         public LocalDateTime addTime(LocalDateTime now, long value) {
             return now.plusMinutes(value);
         }
     },
-    HOUR("h") {
+    HOUR("h", 3_600_000L) {
         @Override
         public LocalDateTime addTime(LocalDateTime now, long value) {
             return now.plusHours(value);
         }
     },
-    DAY("d") {
+    DAY("d", 86_400_000L) {
         @Override
         public LocalDateTime addTime(LocalDateTime now, long value) {
             return now.plusDays(value);
         }
     },
-    MONTH("mo") {
+    MONTH("mo", 30 * 86_400_000L) {
         @Override
         public LocalDateTime addTime(LocalDateTime now, long value) {
             return now.plusMonths(value);
         }
     },
-    YEAR("y") {
+    YEAR("y", 365 * 86_400_000L) {
         @Override
         public LocalDateTime addTime(LocalDateTime now, long value) {
             return now.plusYears(value);
         }
     };
 
+    static final TimeUnit[] VALUES = values();
+
     private final String suffix;
+    private final long millis;
 
     /**
      * Constructs a new TimeUnit instance with the specified suffix.
@@ -61,9 +64,11 @@ public enum TimeUnit {
      * The suffix represents the string identifier for the time unit (e.g., "s" for seconds, "m" for minutes).
      *
      * @param suffix the string identifier for the time unit
+     * @param millis the length of the unit in milliseconds
      */
-    TimeUnit(String suffix) {
+    TimeUnit(String suffix, long millis) {
         this.suffix = suffix;
+        this.millis = millis;
     }
 
     /**
@@ -78,7 +83,7 @@ public enum TimeUnit {
      * @throws ParseException if the specified suffix does not match any supported time unit
      */
     public static TimeUnit fromSuffix(String suffix) throws ParseException {
-        for (TimeUnit unit : values()) {
+        for (TimeUnit unit : VALUES) {
             if (unit.getSuffix().equals(suffix)) {
                 return unit;
             }
@@ -95,6 +100,18 @@ public enum TimeUnit {
         return suffix;
     }
 
+    /**
+     * Retrieves the length of the time unit in milliseconds.
+     * <p>
+     * Months and years have no fixed length; they are counted as 30 and 365 days.
+     * Use {@link #addTime(LocalDateTime, long)} for calendar-aware arithmetic.
+     *
+     * @return the length of the unit in milliseconds
+     */
+    public long getMillis() {
+        return millis;
+    }
+
     /**
      * Adds a specified amount of time to a given {@code LocalDateTime} object.
      *
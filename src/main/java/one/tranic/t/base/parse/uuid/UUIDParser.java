@@ -3,12 +3,46 @@ package one.tranic.t.base.parse.uuid;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.Arrays;
 import java.util.UUID;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
+/**
+ * Converts UUIDs from and to their hexadecimal representations, with or without dashes.
+ * <p>
+ * Parsing decodes the hexadecimal digits straight into the two halves of the UUID, and formatting writes them
+ * into a caller-provided buffer, so neither regular expressions nor intermediate strings are involved.
+ */
+@SuppressWarnings("unused")
 public class UUIDParser {
-    private static final Pattern UUID_PATTERN = Pattern.compile("(\\w{8})(\\w{4})(\\w{4})(\\w{4})(\\w{12})");
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+    private static final byte[] HEX_VALUES = new byte[128];
+
+    /**
+     * The length of a UUID string without dashes.
+     */
+    public static final int LENGTH = 32;
+
+    /**
+     * The length of a UUID string with dashes.
+     */
+    public static final int DASHED_LENGTH = 36;
+
+    static {
+        Arrays.fill(HEX_VALUES, (byte) -1);
+        for (int i = 0; i < 10; i++) HEX_VALUES['0' + i] = (byte) i;
+        for (int i = 0; i < 6; i++) {
+            HEX_VALUES['a' + i] = (byte) (10 + i);
+            HEX_VALUES['A' + i] = (byte) (10 + i);
+        }
+    }
+
+    private static int hex(int c) {
+        return c < 128 ? HEX_VALUES[c] : -1;
+    }
+
+    private static boolean isDash(int offset) {
+        return offset == 8 || offset == 13 || offset == 18 || offset == 23;
+    }
 
     /**
      * Formats a given string representation of a UUID into its canonical form with dashes.
@@ -20,15 +54,148 @@ public class UUIDParser {
      * null otherwise.
      */
     public static @Nullable UUID format(@NotNull String uuidString) {
-        if (uuidString == null || uuidString.isBlank()) return null;
+        if (uuidString == null || uuidString.length() != LENGTH) return null;
+        return parse(uuidString, 0, LENGTH);
+    }
+
+    /**
+     * Parses a UUID written as 32 hexadecimal digits, or as 36 characters with dashes.
+     *
+     * @param s the characters to parse; must not be null
+     * @return the UUID, or null if the characters are not a valid UUID
+     */
+    public static @Nullable UUID parse(@NotNull CharSequence s) {
+        return parse(s, 0, s.length());
+    }
+
+    /**
+     * Parses a UUID from a range of characters, written as 32 hexadecimal digits or as 36 characters with dashes.
+     *
+     * @param s     the characters to parse; must not be null
+     * @param start the index of the first character of the UUID
+     * @param end   the index after the last character of the UUID
+     * @return the UUID, or null if the range is not a valid UUID
+     */
+    public static @Nullable UUID parse(@NotNull CharSequence s, int start, int end) {
+        int length = end - start;
+        boolean dashed = length == DASHED_LENGTH;
+        if (!dashed && length != LENGTH) return null;
+        long msb = 0, lsb = 0;
+        int digits = 0;
+        for (int i = start; i < end; i++) {
+            char c = s.charAt(i);
+            if (dashed && isDash(i - start)) {
+                if (c != '-') return null;
+                continue;
+            }
+            int value = hex(c);
+            if (value < 0) return null;
+            if (digits++ < 16) msb = msb << 4 | value;
+            else lsb = lsb << 4 | value;
+        }
+        return new UUID(msb, lsb);
+    }
+
+    /**
+     * Parses a UUID from a range of ASCII bytes, written as 32 hexadecimal digits or as 36 characters with dashes.
+     *
+     * @param bytes  the bytes to parse; must not be null
+     * @param offset the index of the first byte of the UUID
+     * @param length the number of bytes of the UUID, 32 or 36
+     * @return the UUID, or null if the range is not a valid UUID
+     */
+    public static @Nullable UUID parse(byte @NotNull [] bytes, int offset, int length) {
+        boolean dashed = length == DASHED_LENGTH;
+        if (!dashed && length != LENGTH) return null;
+        long msb = 0, lsb = 0;
+        int digits = 0;
+        for (int i = 0; i < length; i++) {
+            int b = bytes[offset + i] & 0xFF;
+            if (dashed && isDash(i)) {
+                if (b != '-') return null;
+                continue;
+            }
+            int value = hex(b);
+            if (value < 0) return null;
+            if (digits++ < 16) msb = msb << 4 | value;
+            else lsb = lsb << 4 | value;
+        }
+        return new UUID(msb, lsb);
+    }
 
-        Matcher matcher = UUID_PATTERN.matcher(uuidString);
-        if (matcher.matches()) {
-            String formattedUUID = String.format("%s-%s-%s-%s-%s",
-                    matcher.group(1), matcher.group(2), matcher.group(3), matcher.group(4), matcher.group(5));
-            return UUID.fromString(formattedUUID);
+    /**
+     * Parses several UUIDs, each written with or without dashes.
+     *
+     * @param ids the strings to parse; must not be null
+     * @param out the array receiving the UUIDs, null for each invalid string; must be at least as long as {@code ids}
+     * @return the number of valid UUIDs
+     */
+    public static int parseAll(@Nullable CharSequence @NotNull [] ids, @Nullable UUID @NotNull [] out) {
+        int valid = 0;
+        for (int i = 0; i < ids.length; i++) {
+            CharSequence id = ids[i];
+            UUID uuid = id != null ? parse(id, 0, id.length()) : null;
+            out[i] = uuid;
+            if (uuid != null) valid++;
         }
-        return null;
+        return valid;
+    }
+
+    /**
+     * Writes the lowercase hexadecimal representation of a UUID into a buffer.
+     *
+     * @param uuid   the UUID to write; must not be null
+     * @param dst    the buffer; must have room for 32 characters, or 36 with dashes, from the offset
+     * @param offset the index at which to start writing
+     * @param dashes whether to write the dashes of the canonical form
+     * @return the index after the last written character
+     */
+    public static int toChars(@NotNull UUID uuid, char @NotNull [] dst, int offset, boolean dashes) {
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        int p = offset;
+        for (int i = 0; i < 32; i++) {
+            if (dashes && (i == 8 || i == 12 || i == 16 || i == 20)) dst[p++] = '-';
+            long half = i < 16 ? msb : lsb;
+            dst[p++] = DIGITS[(int) (half >>> ((15 - (i & 15)) << 2)) & 0xF];
+        }
+        return p;
+    }
+
+    /**
+     * Writes the lowercase hexadecimal ASCII representation of a UUID into a buffer.
+     *
+     * @param uuid   the UUID to write; must not be null
+     * @param dst    the buffer; must have room for 32 bytes, or 36 with dashes, from the offset
+     * @param offset the index at which to start writing
+     * @param dashes whether to write the dashes of the canonical form
+     * @return the index after the last written byte
+     */
+    public static int toBytes(@NotNull UUID uuid, byte @NotNull [] dst, int offset, boolean dashes) {
+        long msb = uuid.getMostSignificantBits();
+        long lsb = uuid.getLeastSignificantBits();
+        int p = offset;
+        for (int i = 0; i < 32; i++) {
+            if (dashes && (i == 8 || i == 12 || i == 16 || i == 20)) dst[p++] = '-';
+            long half = i < 16 ? msb : lsb;
+            dst[p++] = (byte) DIGITS[(int) (half >>> ((15 - (i & 15)) << 2)) & 0xF];
+        }
+        return p;
+    }
+
+    /**
+     * Writes the lowercase hexadecimal representations of several UUIDs back to back into a buffer.
+     *
+     * @param uuids  the UUIDs to write; must not be null
+     * @param dst    the buffer; must have room for 32 characters per UUID, or 36 with dashes, from the offset
+     * @param offset the index at which to start writing
+     * @param dashes whether to write the dashes of the canonical form
+     * @return the index after the last written character
+     */
+    public static int toChars(@NotNull UUID @NotNull [] uuids, char @NotNull [] dst, int offset, boolean dashes) {
+        int p = offset;
+        for (UUID uuid : uuids) p = toChars(uuid, dst, p, dashes);
+        return p;
     }
 
     /**
@@ -38,7 +205,25 @@ public class UUIDParser {
      * @return the string representation of the UUID without dashes
      */
     public static @NotNull String removeDashes(@NotNull UUID uuid) {
-        return removeDashes(uuid.toString());
+        char[] chars = new char[LENGTH];
+        toChars(uuid, chars, 0, false);
+        return new String(chars);
+    }
+
+    /**
+     * Removes the dashes from several UUIDs.
+     *
+     * @param uuids the UUIDs; must not be null
+     * @return the string representations of the UUIDs without dashes, in the same order
+     */
+    public static @NotNull String @NotNull [] removeDashes(@NotNull UUID @NotNull [] uuids) {
+        String[] result = new String[uuids.length];
+        char[] chars = new char[LENGTH];
+        for (int i = 0; i < uuids.length; i++) {
+            toChars(uuids[i], chars, 0, false);
+            result[i] = new String(chars);
+        }
+        return result;
     }
 
     /**
@@ -48,6 +233,15 @@ public class UUIDParser {
      * @return the UUID string with all dashes removed, converted to lowercase
      */
     public static @NotNull String removeDashes(@NotNull String uuidString) {
-        return uuidString.replace("-", "").toLowerCase();
+        if (uuidString.length() != DASHED_LENGTH) return uuidString.replace("-", "").toLowerCase();
+        char[] chars = new char[LENGTH];
+        int p = 0;
+        for (int i = 0; i < DASHED_LENGTH; i++) {
+            char c = uuidString.charAt(i);
+            if (c == '-') continue;
+            if (p == LENGTH || c >= 128) return uuidString.replace("-", "").toLowerCase();
+            chars[p++] = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+        }
+        return p == LENGTH ? new String(chars) : new String(chars, 0, p).toLowerCase();
     }
 }
@@ -0,0 +1,266 @@
+package one.tranic.t.base.parse.version;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable, parsed version string ordered by Semantic Versioning precedence.
+ * <p>
+ * A version consists of any number of numeric segments ({@code 1.20.4}), an optional pre-release
+ * ({@code -beta.2}) and optional build metadata ({@code +build.7}). A leading {@code v} is ignored, missing
+ * segments count as zero, a version with a pre-release precedes the same version without one, and build
+ * metadata does not take part in the ordering. Text directly following a segment, as in {@code 1.0.0RC1},
+ * is read as a pre-release.
+ * <p>
+ * {@link #parse(String)} interns the parsed versions, so comparing versions that have been seen before
+ * neither parses nor allocates.
+ */
+@SuppressWarnings("unused")
+public final class Version implements Comparable<Version> {
+    private static final int CACHE_CAPACITY = 1024;
+    private static final Map<String, Version> CACHE = new ConcurrentHashMap<>();
+    private static final int[] NO_SEGMENTS = new int[0];
+    private static final String[] NO_IDENTIFIERS = new String[0];
+
+    private final String source;
+    private final int[] segments;
+    private final int significant;
+    private final String[] preRelease;
+    private final long[] preReleaseNumbers;
+    private final String build;
+    private final int hash;
+
+    private Version(String source, int[] segments, String[] preRelease, String build) {
+        this.source = source;
+        this.segments = segments;
+        this.preRelease = preRelease;
+        this.build = build;
+        int significant = segments.length;
+        while (significant > 0 && segments[significant - 1] == 0) significant--;
+        this.significant = significant;
+        this.preReleaseNumbers = new long[preRelease.length];
+        int h = 1;
+        for (int i = 0; i < significant; i++) h = 31 * h + segments[i];
+        for (int i = 0; i < preRelease.length; i++) {
+            preReleaseNumbers[i] = numeric(preRelease[i]);
+            h = 31 * h + (preReleaseNumbers[i] >= 0 ? Long.hashCode(preReleaseNumbers[i]) : preRelease[i].toLowerCase(Locale.ROOT).hashCode());
+        }
+        this.hash = h;
+    }
+
+    /**
+     * Parses a version string, returning the interned instance if the string has been parsed before.
+     *
+     * @param version the version string; must not be null
+     * @return the parsed version
+     */
+    public static @NotNull Version parse(@NotNull String version) {
+        Version cached = CACHE.get(version);
+        if (cached != null) return cached;
+        Version parsed = parseUncached(version);
+        if (CACHE.size() >= CACHE_CAPACITY) CACHE.clear();
+        cached = CACHE.putIfAbsent(version, parsed);
+        return cached != null ? cached : parsed;
+    }
+
+    private static Version parseUncached(String version) {
+        int length = version.length();
+        int i = 0;
+        if (i < length && (version.charAt(i) == 'v' || version.charAt(i) == 'V')) i++;
+
+        int[] segments = new int[4];
+        int count = 0;
+        while (i < length) {
+            char c = version.charAt(i);
+            if (c < '0' || c > '9') break;
+            long value = 0;
+            for (; i < length && (c = version.charAt(i)) >= '0' && c <= '9'; i++)
+                value = Math.min(Integer.MAX_VALUE, value * 10 + (c - '0'));
+            if (count == segments.length) segments = Arrays.copyOf(segments, count * 2);
+            segments[count++] = (int) value;
+            if (i < length && version.charAt(i) == '.') i++;
+            else break;
+        }
+
+        String preRelease = null;
+        String build = null;
+        int plus = version.indexOf('+', i);
+        int preEnd = plus >= 0 ? plus : length;
+        if (i < preEnd) {
+            int start = version.charAt(i) == '-' || version.charAt(i) == '.' ? i + 1 : i;
+            if (start < preEnd) preRelease = version.substring(start, preEnd);
+        }
+        if (plus >= 0 && plus + 1 < length) build = version.substring(plus + 1);
+
+        return new Version(version,
+                count == 0 ? NO_SEGMENTS : Arrays.copyOf(segments, count),
+                preRelease == null ? NO_IDENTIFIERS : split(preRelease),
+                build);
+    }
+
+    private static String[] split(String preRelease) {
+        List<String> identifiers = new ArrayList<>(2);
+        int start = 0;
+        for (int i = 0; i <= preRelease.length(); i++) {
+            if (i == preRelease.length() || preRelease.charAt(i) == '.') {
+                if (i > start) identifiers.add(preRelease.substring(start, i));
+                start = i + 1;
+            }
+        }
+        return identifiers.toArray(NO_IDENTIFIERS);
+    }
+
+    private static long numeric(String identifier) {
+        if (identifier.length() > 18) return -1;
+        long value = 0;
+        for (int i = 0; i < identifier.length(); i++) {
+            char c = identifier.charAt(i);
+            if (c < '0' || c > '9') return -1;
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    /**
+     * Discards all interned versions.
+     */
+    public static void clearCache() {
+        CACHE.clear();
+    }
+
+    @Override
+    public int compareTo(@NotNull Version other) {
+        int count = Math.max(significant, other.significant);
+        for (int i = 0; i < count; i++) {
+            int result = Integer.compare(getSegment(i), other.getSegment(i));
+            if (result != 0) return result;
+        }
+        if (preRelease.length == 0 || other.preRelease.length == 0)
+            return Integer.compare(other.preRelease.length == 0 ? 0 : 1, preRelease.length == 0 ? 0 : 1);
+        int identifiers = Math.min(preRelease.length, other.preRelease.length);
+        for (int i = 0; i < identifiers; i++) {
+            long a = preReleaseNumbers[i], b = other.preReleaseNumbers[i];
+            int result;
+            if (a >= 0 && b >= 0) result = Long.compare(a, b);
+            else if (a >= 0) result = -1;
+            else if (b >= 0) result = 1;
+            else result = preRelease[i].compareToIgnoreCase(other.preRelease[i]);
+            if (result != 0) return result;
+        }
+        return Integer.compare(preRelease.length, other.preRelease.length);
+    }
+
+    /**
+     * Determines whether this version is newer than the other one.
+     *
+     * @param other the version to compare with; must not be null
+     * @return true if this version takes precedence over the other one
+     */
+    public boolean isNewerThan(@NotNull Version other) {
+        return compareTo(other) > 0;
+    }
+
+    /**
+     * Retrieves a numeric segment of this version.
+     *
+     * @param index the index of the segment, 0 for the major version
+     * @return the segment, or 0 if the version has fewer segments
+     */
+    public int getSegment(int index) {
+        return index < segments.length ? segments[index] : 0;
+    }
+
+    /**
+     * Retrieves the number of numeric segments written in the version string.
+     *
+     * @return the number of segments
+     */
+    public int getSegmentCount() {
+        return segments.length;
+    }
+
+    /**
+     * Retrieves the major version, the segment at index 0.
+     *
+     * @return the major version
+     */
+    public int getMajor() {
+        return getSegment(0);
+    }
+
+    /**
+     * Retrieves the minor version, the segment at index 1.
+     *
+     * @return the minor version
+     */
+    public int getMinor() {
+        return getSegment(1);
+    }
+
+    /**
+     * Retrieves the patch version, the segment at index 2.
+     *
+     * @return the patch version
+     */
+    public int getPatch() {
+        return getSegment(2);
+    }
+
+    /**
+     * Determines whether this version has a pre-release.
+     *
+     * @return true for pre-release versions
+     */
+    public boolean isPreRelease() {
+        return preRelease.length > 0;
+    }
+
+    /**
+     * Retrieves the pre-release of this version, such as {@code beta.2}.
+     *
+     * @return the pre-release, or null for release versions
+     */
+    public @Nullable String getPreRelease() {
+        return preRelease.length == 0 ? null : String.join(".", preRelease);
+    }
+
+    /**
+     * Retrieves the build metadata of this version, such as {@code build.7}.
+     *
+     * @return the build metadata, or null if there is none
+     */
+    public @Nullable String getBuild() {
+        return build;
+    }
+
+    /**
+     * Two versions are equal if they have the same precedence; build metadata and trailing zero segments are ignored.
+     */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        return o instanceof Version other && hash == other.hash && compareTo(other) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * Retrieves the version string this version was parsed from.
+     *
+     * @return the version string
+     */
+    @Override
+    public String toString() {
+        return source;
+    }
+}
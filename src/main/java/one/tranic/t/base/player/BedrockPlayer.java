@@ -1,6 +1,7 @@
 package one.tranic.t.base.player;
 
-import one.tranic.t.base.parse.uuid.UUIDParser;
+import one.tranic.t.base.player.session.PlayerSession;
+import one.tranic.t.base.player.session.PlayerSessions;
 import one.tranic.t.utils.Reflect;
 import org.apache.commons.lang.Validate;
 import org.checkerframework.checker.nullness.qual.NonNull;
@@ -20,6 +21,7 @@ import java.util.UUID;
 public class BedrockPlayer<P> {
     private static final boolean geyser = Reflect.hasClass("org.geysermc.geyser.api.GeyserApi");
     private static final boolean floodgate = Reflect.hasClass("org.geysermc.floodgate.api.FloodgateApi");
+    private static final int FLOODGATE_PREFIX_DIGITS = 16;
 
     private final Player<P> player;
     private final Object bedrockPlayer;
@@ -54,36 +56,51 @@ public class BedrockPlayer<P> {
 
     /**
      * Determines whether the specified player is a Bedrock player.
+     * <p>
+     * If the player has a session, the classification made when the player joined is returned.
+     * This never calls {@link Player#isBedrockPlayer()}, so implementations may delegate to this method.
      *
      * @param player the player to check; must not be null
      * @return true if the specified player is a Bedrock player, otherwise false
      */
     public static boolean isBedrockPlayer(@NotNull Player player) {
-        return isBedrockPlayer(player.getUniqueId());
+        UUID uuid = player.getUniqueId();
+        PlayerSession session = PlayerSessions.get(uuid);
+        if (session != null) return session.isBedrockPlayer();
+        return isBedrockPlayer(uuid);
     }
 
     /**
      * Checks if a given UUID string represents a Floodgate player by verifying
      * if it starts with the Floodgate UUID prefix.
+     * <p>
+     * The string is scanned in place; dashes are skipped and no intermediate string is created.
      *
-     * @param uuid the UUID string of the player, expected to contain dashes and not null
+     * @param uuid the UUID string of the player, with or without dashes, not null
      * @return {@code true} if the UUID represents a Floodgate player, {@code false} otherwise
      */
     public static boolean isFloodgatePlayer(@NotNull String uuid) {
-        final String FLOODGATE_UUID_PREFIX = "0000000000000000";
-
-        String str = UUIDParser.removeDashes(uuid);
-        return str.startsWith(FLOODGATE_UUID_PREFIX);
+        int zeros = 0;
+        for (int i = 0, len = uuid.length(); i < len && zeros < FLOODGATE_PREFIX_DIGITS; i++) {
+            char c = uuid.charAt(i);
+            if (c == '-') continue;
+            if (c != '0') return false;
+            zeros++;
+        }
+        return zeros == FLOODGATE_PREFIX_DIGITS;
     }
 
     /**
      * Determines if a player with the given UUID is a Floodgate player.
+     * <p>
+     * Floodgate UUIDs have their 64 most significant bits set to zero,
+     * so this check does not need to format the UUID.
      *
      * @param uuid the universally unique identifier (UUID) of the player to check
      * @return true if the player is a Floodgate player, false otherwise
      */
     public static boolean isFloodgatePlayer(@NotNull UUID uuid) {
-        return isFloodgatePlayer(uuid.toString());
+        return uuid.getMostSignificantBits() == 0L;
     }
 
     /**
@@ -2,6 +2,9 @@ package one.tranic.t.base.player;
 
 import net.kyori.adventure.text.Component;
 import one.tranic.t.base.TBase;
+import one.tranic.t.base.player.session.PlayerSession;
+import one.tranic.t.base.player.session.PlayerSessions;
+import one.tranic.t.base.player.spatial.PositionBuffer;
 import one.tranic.t.utils.minecraft.ProtocolVersion;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -13,10 +16,15 @@ import java.util.UUID;
 public interface Player<C> {
     /**
      * Converts the current player instance to a BedrockPlayer.
+     * <p>
+     * If the player has a session, the handle created for that session is reused.
      *
      * @return a {@link BedrockPlayer} instance if the player is a Bedrock player, or null if not applicable
      */
+    @SuppressWarnings("unchecked")
     default @Nullable BedrockPlayer<C> toBedrockPlayer() {
+        PlayerSession session = getSession();
+        if (session != null) return (BedrockPlayer<C>) session.getBedrockPlayer();
         return new BedrockPlayer<>(this);
     }
 
@@ -34,24 +42,41 @@ public interface Player<C> {
      */
     @NotNull UUID getUniqueId();
 
+    /**
+     * Retrieves the session of the player.
+     * <p>
+     * The session is only available between {@link PlayerSessions#join(Player)} and {@link PlayerSessions#quit(UUID)}.
+     *
+     * @return the {@link PlayerSession} of the player, or {@code null} if the player has no session
+     */
+    default @Nullable PlayerSession getSession() {
+        return PlayerSessions.get(getUniqueId());
+    }
+
     /**
      * Retrieves the protocol version of the player.
+     * <p>
+     * If the player has a session, the value cached when the player joined is returned.
      *
      * @return the protocol version of the player as an integer
      */
     default int getPlayerProtocolVersion() {
-        if (isBedrockPlayer()) return toBedrockPlayer().protocolVersion();
-        return ViaPlayer.getVersion(getUniqueId());
+        PlayerSession session = getSession();
+        if (session != null) return session.getProtocolVersion();
+        return PlayerSessions.lookupProtocolVersion(this);
     }
 
     /**
      * Retrieves the protocol version of the player.
+     * <p>
+     * If the player has a session, the value cached when the player joined is returned.
      *
      * @return the player's protocol version as a {@link ProtocolVersion} instance.
      */
     default @NotNull ProtocolVersion getPlayerVersion() {
-        if (isBedrockPlayer()) return ProtocolVersion.UNKNOWN;
-        return ProtocolVersion.fromProtocolVersion(ViaPlayer.getVersion(getUniqueId()));
+        PlayerSession session = getSession();
+        if (session != null) return session.getVersion();
+        return PlayerSessions.lookupVersion(this);
     }
 
     /**
@@ -63,11 +88,14 @@ public interface Player<C> {
 
     /**
      * Determines whether the player associated with this instance is a Bedrock player.
-     * This method utilizes the {@link BedrockPlayer#isBedrockPlayer(UUID)} implementation.
+     * If the player has a session, the classification made when the player joined is returned,
+     * otherwise this method utilizes the {@link BedrockPlayer#isBedrockPlayer(UUID)} implementation.
      *
      * @return true if the player is a Bedrock player; false otherwise.
      */
     default boolean isBedrockPlayer() {
+        PlayerSession session = getSession();
+        if (session != null) return session.isBedrockPlayer();
         return BedrockPlayer.isBedrockPlayer(getUniqueId());
     }
 
@@ -85,6 +113,22 @@ public interface Player<C> {
      */
     @Nullable Location getLocation();
 
+    /**
+     * Appends the current position of the player to the specified {@link PositionBuffer}.
+     * <p>
+     * The default implementation goes through {@link #getLocation()}; platform implementations
+     * may override it to copy the coordinates without creating a {@link Location}.
+     *
+     * @param buffer the buffer to append to; must not be null
+     * @return true if a position was written, false if the player has no location
+     */
+    default boolean writePosition(@NotNull PositionBuffer buffer) {
+        Location location = getLocation();
+        if (location == null) return false;
+        buffer.add(this, location);
+        return true;
+    }
+
     /**
      * Retrieves the latency or ping value for the player in milliseconds.
      * <p>
@@ -103,6 +147,19 @@ public interface Player<C> {
      */
     boolean isOnline();
 
+    /**
+     * Checks if the player has the specified permission.
+     * <p>
+     * The default implementation grants no permission; platform implementations override it
+     * to query their permission system.
+     *
+     * @param permission the permission node to check for; must not be null
+     * @return true if the player has the specified permission, otherwise false
+     */
+    default boolean hasPermission(@NotNull String permission) {
+        return false;
+    }
+
     /**
      * Retrieves the client brand name associated with the player.
      * <p>
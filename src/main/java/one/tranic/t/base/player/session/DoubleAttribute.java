@@ -0,0 +1,167 @@
+package one.tranic.t.base.player.session;
+
+import one.tranic.t.base.player.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * A per-player attribute holding a {@code double} value.
+ *
+ * @see PlayerAttribute
+ */
+public final class DoubleAttribute extends PlayerAttribute {
+    private final double defaultValue;
+    private volatile double[] values = new double[0];
+
+    /**
+     * Creates an attribute whose default value is {@code 0.0}.
+     *
+     * @param name the name of the attribute
+     */
+    public DoubleAttribute(@NotNull String name) {
+        this(name, 0D);
+    }
+
+    /**
+     * Creates an attribute with the specified default value.
+     *
+     * @param name         the name of the attribute
+     * @param defaultValue the value reported for players that have not been assigned a value
+     */
+    public DoubleAttribute(@NotNull String name, double defaultValue) {
+        super(name);
+        this.defaultValue = defaultValue;
+        register();
+    }
+
+    /**
+     * Retrieves the value stored for the specified session.
+     *
+     * @param session the session of the player
+     * @return the stored value, or the default value if none has been assigned
+     */
+    public double get(@NotNull PlayerSession session) {
+        return get(id(session));
+    }
+
+    /**
+     * Retrieves the value stored for the specified player.
+     *
+     * @param player the player
+     * @return the stored value, or the default value if none has been assigned or the player has no session
+     */
+    public double get(@NotNull Player<?> player) {
+        return get(id(player));
+    }
+
+    /**
+     * Retrieves the value stored for the specified session identifier.
+     *
+     * @param id the identifier returned by {@link PlayerSession#getId()}
+     * @return the stored value, or the default value if none has been assigned
+     */
+    public double get(int id) {
+        double[] v = values;
+        return id >= 0 && id < v.length ? v[id] : defaultValue;
+    }
+
+    /**
+     * Stores a value for the specified session.
+     *
+     * @param session the session of the player
+     * @param value   the value to store
+     */
+    public void set(@NotNull PlayerSession session, double value) {
+        set(id(session), value);
+    }
+
+    /**
+     * Stores a value for the specified player. Does nothing if the player has no session.
+     *
+     * @param player the player
+     * @param value  the value to store
+     */
+    public void set(@NotNull Player<?> player, double value) {
+        set(id(player), value);
+    }
+
+    /**
+     * Stores a value for the specified session identifier.
+     *
+     * @param id    the identifier returned by {@link PlayerSession#getId()}
+     * @param value the value to store
+     * @throws IllegalArgumentException if the identifier was not issued by {@link PlayerSessions}
+     */
+    public void set(int id, double value) {
+        if (id < 0) return;
+        double[] v = values;
+        if (id >= v.length) throw unknownId(id);
+        v[id] = value;
+        VarHandle.fullFence();
+        // a resize that copied this slot before the write has published an array without it, so write it again
+        if (resizing || values != v) {
+            synchronized (this) {
+                values[id] = value;
+            }
+        }
+    }
+
+    /**
+     * Adds a delta to the value stored for the specified session.
+     *
+     * @param session the session of the player
+     * @param delta   the amount to add
+     * @return the new value
+     */
+    public double add(@NotNull PlayerSession session, double delta) {
+        return add(id(session), delta);
+    }
+
+    /**
+     * Adds a delta to the value stored for the specified player.
+     *
+     * @param player the player
+     * @param delta  the amount to add
+     * @return the new value, or the default value if the player has no session
+     */
+    public double add(@NotNull Player<?> player, double delta) {
+        return add(id(player), delta);
+    }
+
+    /**
+     * Adds a delta to the value stored for the specified session identifier.
+     *
+     * @param id    the identifier returned by {@link PlayerSession#getId()}
+     * @param delta the amount to add
+     * @return the new value
+     * @throws IllegalArgumentException if the identifier was not issued by {@link PlayerSessions}
+     */
+    public double add(int id, double delta) {
+        if (id < 0) return defaultValue;
+        double value = get(id) + delta;
+        set(id, value);
+        return value;
+    }
+
+    @Override
+    synchronized void ensureCapacity(int capacity) {
+        double[] v = values;
+        if (capacity <= v.length) return;
+        resizing = true;
+        try {
+            int oldLength = v.length;
+            v = Arrays.copyOf(v, newCapacity(oldLength, capacity));
+            if (defaultValue != 0) Arrays.fill(v, oldLength, v.length, defaultValue);
+            values = v;
+        } finally {
+            resizing = false;
+        }
+    }
+
+    @Override
+    void clear(int id) {
+        if (id < values.length) set(id, defaultValue);
+    }
+}
@@ -0,0 +1,134 @@
+package one.tranic.t.base.player.session;
+
+import one.tranic.t.base.player.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+
+/**
+ * A per-player attribute holding an object reference.
+ * <p>
+ * The reference is dropped when the player's session ends, so the referenced object can be garbage collected.
+ *
+ * @param <T> the type of the stored value
+ * @see PlayerAttribute
+ */
+public final class ObjectAttribute<T> extends PlayerAttribute {
+    private final T defaultValue;
+    private volatile Object[] values = new Object[0];
+
+    /**
+     * Creates an attribute whose default value is {@code null}.
+     *
+     * @param name the name of the attribute
+     */
+    public ObjectAttribute(@NotNull String name) {
+        this(name, null);
+    }
+
+    /**
+     * Creates an attribute with the specified default value.
+     *
+     * @param name         the name of the attribute
+     * @param defaultValue the value reported for players that have not been assigned a value
+     */
+    public ObjectAttribute(@NotNull String name, @Nullable T defaultValue) {
+        super(name);
+        this.defaultValue = defaultValue;
+        register();
+    }
+
+    /**
+     * Retrieves the value stored for the specified session.
+     *
+     * @param session the session of the player
+     * @return the stored value, or the default value if none has been assigned
+     */
+    public @Nullable T get(@NotNull PlayerSession session) {
+        return get(id(session));
+    }
+
+    /**
+     * Retrieves the value stored for the specified player.
+     *
+     * @param player the player
+     * @return the stored value, or the default value if none has been assigned or the player has no session
+     */
+    public @Nullable T get(@NotNull Player<?> player) {
+        return get(id(player));
+    }
+
+    /**
+     * Retrieves the value stored for the specified session identifier.
+     *
+     * @param id the identifier returned by {@link PlayerSession#getId()}
+     * @return the stored value, or the default value if none has been assigned
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable T get(int id) {
+        Object[] v = values;
+        if (id < 0 || id >= v.length) return defaultValue;
+        Object value = v[id];
+        return value != null ? (T) value : defaultValue;
+    }
+
+    /**
+     * Stores a value for the specified session.
+     *
+     * @param session the session of the player
+     * @param value   the value to store, or {@code null} to restore the default value
+     */
+    public void set(@NotNull PlayerSession session, @Nullable T value) {
+        set(id(session), value);
+    }
+
+    /**
+     * Stores a value for the specified player. Does nothing if the player has no session.
+     *
+     * @param player the player
+     * @param value  the value to store, or {@code null} to restore the default value
+     */
+    public void set(@NotNull Player<?> player, @Nullable T value) {
+        set(id(player), value);
+    }
+
+    /**
+     * Stores a value for the specified session identifier.
+     *
+     * @param id    the identifier returned by {@link PlayerSession#getId()}
+     * @param value the value to store, or {@code null} to restore the default value
+     * @throws IllegalArgumentException if the identifier was not issued by {@link PlayerSessions}
+     */
+    public void set(int id, @Nullable T value) {
+        if (id < 0) return;
+        Object[] v = values;
+        if (id >= v.length) throw unknownId(id);
+        v[id] = value;
+        VarHandle.fullFence();
+        // a resize that copied this slot before the write has published an array without it, so write it again
+        if (resizing || values != v) {
+            synchronized (this) {
+                values[id] = value;
+            }
+        }
+    }
+
+    @Override
+    synchronized void ensureCapacity(int capacity) {
+        Object[] v = values;
+        if (capacity <= v.length) return;
+        resizing = true;
+        try {
+            values = Arrays.copyOf(v, newCapacity(v.length, capacity));
+        } finally {
+            resizing = false;
+        }
+    }
+
+    @Override
+    void clear(int id) {
+        if (id < values.length) set(id, null);
+    }
+}
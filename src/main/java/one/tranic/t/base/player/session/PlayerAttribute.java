@@ -0,0 +1,93 @@
+package one.tranic.t.base.player.session;
+
+import one.tranic.t.base.player.Player;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Base class of typed per-player attributes.
+ * <p>
+ * An attribute stores one value per online player in a dense array indexed by {@link PlayerSession#getId()},
+ * so reading or writing it is a plain array access once the session is known. Slots are reset to the
+ * default value automatically when the player's session ends, so attributes never leak entries for
+ * disconnected players.
+ * <p>
+ * usage:
+ * <pre>
+ *     private static final IntAttribute KILLS = new IntAttribute("kills");
+ *
+ *     KILLS.add(player, 1);
+ *     int kills = KILLS.get(player);
+ * </pre>
+ * Values are stored like plain fields: writes to the same player from several threads must be synchronized
+ * by the caller. Writes are never lost to the array growing when other players join, and writes through a
+ * session that has already ended are ignored.
+ */
+public abstract sealed class PlayerAttribute permits IntAttribute, LongAttribute, DoubleAttribute, ObjectAttribute {
+    static final List<PlayerAttribute> ATTRIBUTES = new CopyOnWriteArrayList<>();
+
+    private final String name;
+    volatile boolean resizing;
+
+    PlayerAttribute(@NotNull String name) {
+        this.name = name;
+    }
+
+    static void clearAll(int id) {
+        for (PlayerAttribute attribute : ATTRIBUTES) attribute.clear(id);
+    }
+
+    static void ensureAllCapacity(int capacity) {
+        for (PlayerAttribute attribute : ATTRIBUTES) attribute.ensureCapacity(capacity);
+    }
+
+    static int newCapacity(int length, int capacity) {
+        return Math.max(capacity, Math.max(16, length + (length >> 1)));
+    }
+
+    // every attribute is grown to the session identifier high-water mark before an identifier is handed out,
+    // so an identifier beyond the array was never issued and must not grow it
+    static IllegalArgumentException unknownId(int id) {
+        return new IllegalArgumentException("Session identifier " + id + " was not issued by PlayerSessions");
+    }
+
+    static int id(@NotNull PlayerSession session) {
+        return session.isActive() ? session.getId() : -1;
+    }
+
+    static int id(@NotNull Player<?> player) {
+        PlayerSession session = player.getSession();
+        return session != null ? session.getId() : -1;
+    }
+
+    /**
+     * Retrieves the name of this attribute.
+     *
+     * @return the name of this attribute
+     */
+    public @NotNull String getName() {
+        return name;
+    }
+
+    /**
+     * Stops tracking this attribute.
+     * <p>
+     * After this call the values of the attribute are no longer cleared when sessions end.
+     */
+    public void unregister() {
+        ATTRIBUTES.remove(this);
+    }
+
+    /**
+     * Registers this attribute. Must be the last statement of every subclass constructor.
+     */
+    final void register() {
+        PlayerSessions.register(this);
+    }
+
+    abstract void ensureCapacity(int capacity);
+
+    abstract void clear(int id);
+}
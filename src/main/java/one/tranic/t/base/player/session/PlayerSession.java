@@ -0,0 +1,151 @@
+package one.tranic.t.base.player.session;
+
+import one.tranic.t.base.player.BedrockPlayer;
+import one.tranic.t.base.player.Player;
+import one.tranic.t.base.player.ViaPlayer;
+import one.tranic.t.utils.minecraft.ProtocolVersion;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.UUID;
+
+/**
+ * Holds the per-connection state of an online player.
+ * <p>
+ * A session is created by {@link PlayerSessions#join(Player)} when the player connects and discarded by
+ * {@link PlayerSessions#quit(UUID)} when the player disconnects. Values that are expensive to look up
+ * through third-party APIs (such as ViaVersion, Geyser or Floodgate) are resolved once when the session is created and
+ * served from memory afterwards.
+ */
+public final class PlayerSession {
+    private final int id;
+    private final Player<?> player;
+    private final UUID uuid;
+    private final boolean bedrock;
+    private volatile BedrockPlayer<?> bedrockPlayer;
+    private volatile int protocolVersion;
+    private volatile ProtocolVersion version;
+    private volatile boolean active = true;
+
+    PlayerSession(int id, @NotNull Player<?> player) {
+        this.id = id;
+        this.player = player;
+        this.uuid = player.getUniqueId();
+        this.bedrock = BedrockPlayer.isBedrockPlayer(uuid);
+        resolveProtocolVersion();
+    }
+
+    void resolveProtocolVersion() {
+        if (bedrock) {
+            this.protocolVersion = getBedrockPlayer().protocolVersion();
+            this.version = ProtocolVersion.UNKNOWN;
+        } else {
+            this.protocolVersion = ViaPlayer.getVersion(uuid);
+            this.version = ProtocolVersion.fromProtocolVersion(protocolVersion);
+        }
+    }
+
+    /**
+     * Retrieves the compact identifier of this session.
+     * <p>
+     * Identifiers are small non-negative integers that are reused after a session ends,
+     * which makes them suitable as indices into dense per-player arrays such as {@link PlayerAttribute}.
+     *
+     * @return the identifier of this session
+     */
+    public int getId() {
+        return id;
+    }
+
+    /**
+     * Determines whether this session is still registered.
+     * <p>
+     * Once the player quits, the identifier of the session may be handed to another player, so attributes
+     * ignore sessions that are no longer active.
+     *
+     * @return true until the session is discarded by {@link PlayerSessions#quit(UUID)}
+     */
+    public boolean isActive() {
+        return active;
+    }
+
+    void deactivate() {
+        active = false;
+    }
+
+    /**
+     * Retrieves the player this session belongs to.
+     *
+     * @return the player associated with this session
+     */
+    public @NotNull Player<?> getPlayer() {
+        return player;
+    }
+
+    /**
+     * Retrieves the unique identifier of the player this session belongs to.
+     *
+     * @return the UUID of the player
+     */
+    public @NotNull UUID getUniqueId() {
+        return uuid;
+    }
+
+    /**
+     * Determines whether the player was classified as a Bedrock player when the session was created.
+     *
+     * @return true if the player is a Bedrock player; false otherwise
+     */
+    public boolean isBedrockPlayer() {
+        return bedrock;
+    }
+
+    /**
+     * Retrieves the {@link BedrockPlayer} handle of the player.
+     * <p>
+     * The handle is created on first access and reused for the rest of the session,
+     * so Floodgate or Geyser is only queried once.
+     *
+     * @return the {@link BedrockPlayer} handle of the player
+     */
+    public @NotNull BedrockPlayer<?> getBedrockPlayer() {
+        BedrockPlayer<?> handle = bedrockPlayer;
+        if (handle == null) {
+            synchronized (this) {
+                handle = bedrockPlayer;
+                if (handle == null) {
+                    handle = new BedrockPlayer<>(player);
+                    bedrockPlayer = handle;
+                }
+            }
+        }
+        return handle;
+    }
+
+    /**
+     * Retrieves the protocol version resolved when the session was created.
+     *
+     * @return the protocol version of the player, or -1 if it could not be determined
+     */
+    public int getProtocolVersion() {
+        return protocolVersion;
+    }
+
+    /**
+     * Retrieves the {@link ProtocolVersion} resolved when the session was created.
+     *
+     * @return the protocol version of the player, {@link ProtocolVersion#UNKNOWN} for Bedrock players
+     */
+    public @NotNull ProtocolVersion getVersion() {
+        return version;
+    }
+
+    /**
+     * Looks up the protocol version of the player again and updates the cached values.
+     * <p>
+     * This is only needed on platforms where the protocol version is not yet known when the join event fires.
+     * Sessions that have already been discarded are left unchanged.
+     */
+    public void refreshProtocolVersion() {
+        PlayerSessions.refresh(this);
+    }
+}
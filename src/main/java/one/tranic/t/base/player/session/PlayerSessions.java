@@ -0,0 +1,256 @@
+package one.tranic.t.base.player.session;
+
+import one.tranic.t.base.player.BedrockPlayer;
+import one.tranic.t.base.player.Player;
+import one.tranic.t.base.player.ViaPlayer;
+import one.tranic.t.base.player.spatial.PlayerSpatialIndex;
+import one.tranic.t.utils.minecraft.ProtocolVersion;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the {@link PlayerSession}s of all online players.
+ * <p>
+ * Platform implementations are expected to call {@link #join(Player)} from their login listener and
+ * {@link #quit(UUID)} from their disconnect listener. Between these two calls, per-player lookups such
+ * as {@link Player#getPlayerProtocolVersion()} are answered from the session instead of querying
+ * ViaVersion, Geyser or Floodgate again.
+ * <p>
+ * usage:
+ * <pre>
+ *     // login listener
+ *     PlayerSessions.join(player);
+ *     // disconnect listener
+ *     PlayerSessions.quit(player.getUniqueId());
+ * </pre>
+ */
+@SuppressWarnings("unused")
+public final class PlayerSessions {
+    private static final Map<UUID, PlayerSession> SESSIONS = new ConcurrentHashMap<>();
+    private static final Map<Integer, Set<PlayerSession>> PROTOCOL_GROUPS = new ConcurrentHashMap<>();
+    private static final Object SESSION_LOCK = new Object();
+    private static final Object ID_LOCK = new Object();
+    private static int[] freeIds = new int[16];
+    private static int freeIdCount;
+    private static int nextId;
+
+    private PlayerSessions() {
+    }
+
+    /**
+     * Creates and registers a session for the specified player.
+     * <p>
+     * If a session for the same UUID is still registered, it is discarded first.
+     *
+     * @param player the player that has joined; must not be null
+     * @return the newly created session
+     */
+    public static @NotNull PlayerSession join(@NotNull Player<?> player) {
+        UUID uuid = player.getUniqueId();
+        PlayerSession previous;
+        PlayerSession session;
+        // replacing under the lock guarantees that every session pushed out by a concurrent join is released
+        synchronized (SESSION_LOCK) {
+            previous = SESSIONS.remove(uuid);
+            if (previous != null) {
+                previous.deactivate();
+                ungroup(previous, previous.getProtocolVersion());
+            }
+            session = new PlayerSession(allocateId(), player);
+            SESSIONS.put(uuid, session);
+            group(session, session.getProtocolVersion());
+        }
+        if (previous != null) {
+            PlayerSpatialIndex.global().remove(uuid);
+            releaseId(previous.getId());
+        }
+        return session;
+    }
+
+    /**
+     * Discards the session of the player identified by the specified UUID.
+     *
+     * @param uuid the UUID of the player that has disconnected; must not be null
+     * @return the discarded session, or {@code null} if the player had no session
+     */
+    public static @Nullable PlayerSession quit(@NotNull UUID uuid) {
+        PlayerSession session;
+        synchronized (SESSION_LOCK) {
+            session = SESSIONS.remove(uuid);
+            if (session != null) {
+                session.deactivate();
+                ungroup(session, session.getProtocolVersion());
+            }
+        }
+        if (session != null) {
+            PlayerSpatialIndex.global().remove(uuid);
+            releaseId(session.getId());
+        }
+        return session;
+    }
+
+    /**
+     * Discards the session of the specified player.
+     *
+     * @param player the player that has disconnected; must not be null
+     * @return the discarded session, or {@code null} if the player had no session
+     */
+    public static @Nullable PlayerSession quit(@NotNull Player<?> player) {
+        return quit(player.getUniqueId());
+    }
+
+    /**
+     * Retrieves the session of the player identified by the specified UUID.
+     *
+     * @param uuid the UUID of the player; must not be null
+     * @return the session of the player, or {@code null} if the player has no session
+     */
+    public static @Nullable PlayerSession get(@NotNull UUID uuid) {
+        return SESSIONS.get(uuid);
+    }
+
+    /**
+     * Retrieves all registered sessions.
+     *
+     * @return an unmodifiable view of all registered sessions
+     */
+    public static @NotNull Collection<PlayerSession> getSessions() {
+        return Collections.unmodifiableCollection(SESSIONS.values());
+    }
+
+    /**
+     * Retrieves the number of registered sessions.
+     *
+     * @return the number of registered sessions
+     */
+    public static int size() {
+        return SESSIONS.size();
+    }
+
+    /**
+     * Groups the players of all registered sessions by their cached protocol version.
+     * <p>
+     * This allows version-specific content to be built once per group instead of once per player.
+     * No ViaVersion lookups are performed by this method.
+     *
+     * @return a snapshot mapping each protocol version to the players using it
+     */
+    public static @NotNull Map<Integer, List<Player<?>>> groupByProtocolVersion() {
+        Map<Integer, List<Player<?>>> result = new HashMap<>(PROTOCOL_GROUPS.size());
+        for (Map.Entry<Integer, Set<PlayerSession>> entry : PROTOCOL_GROUPS.entrySet()) {
+            Set<PlayerSession> group = entry.getValue();
+            List<Player<?>> players = new ArrayList<>(group.size());
+            for (PlayerSession session : group) players.add(session.getPlayer());
+            if (!players.isEmpty()) result.put(entry.getKey(), players);
+        }
+        return result;
+    }
+
+    /**
+     * Retrieves the number of session identifiers handed out so far.
+     * <p>
+     * Every identifier returned by {@link PlayerSession#getId()} is lower than this value.
+     *
+     * @return the exclusive upper bound of session identifiers
+     */
+    public static int capacity() {
+        synchronized (ID_LOCK) {
+            return nextId;
+        }
+    }
+
+    /**
+     * Discards all registered sessions.
+     */
+    public static void clear() {
+        for (PlayerSession session : SESSIONS.values()) quit(session.getUniqueId());
+    }
+
+    /**
+     * Looks up the protocol version of the specified player without consulting its session.
+     *
+     * @param player the player to look up; must not be null
+     * @return the protocol version of the player, or -1 if it could not be determined
+     */
+    public static int lookupProtocolVersion(@NotNull Player<?> player) {
+        UUID uuid = player.getUniqueId();
+        if (BedrockPlayer.isBedrockPlayer(uuid)) {
+            BedrockPlayer<?> bedrockPlayer = player.toBedrockPlayer();
+            return bedrockPlayer != null ? bedrockPlayer.protocolVersion() : -1;
+        }
+        return ViaPlayer.getVersion(uuid);
+    }
+
+    /**
+     * Looks up the {@link ProtocolVersion} of the specified player without consulting its session.
+     *
+     * @param player the player to look up; must not be null
+     * @return the protocol version of the player, {@link ProtocolVersion#UNKNOWN} for Bedrock players
+     */
+    public static @NotNull ProtocolVersion lookupVersion(@NotNull Player<?> player) {
+        UUID uuid = player.getUniqueId();
+        if (BedrockPlayer.isBedrockPlayer(uuid)) return ProtocolVersion.UNKNOWN;
+        return ProtocolVersion.fromProtocolVersion(ViaPlayer.getVersion(uuid));
+    }
+
+    private static int allocateId() {
+        synchronized (ID_LOCK) {
+            if (freeIdCount > 0) return freeIds[--freeIdCount];
+            int id = nextId++;
+            PlayerAttribute.ensureAllCapacity(nextId);
+            return id;
+        }
+    }
+
+    static void register(PlayerAttribute attribute) {
+        synchronized (ID_LOCK) {
+            attribute.ensureCapacity(nextId);
+            PlayerAttribute.ATTRIBUTES.add(attribute);
+        }
+    }
+
+    private static void releaseId(int id) {
+        synchronized (ID_LOCK) {
+            // cleared under the lock so that no resize can copy the old values into a new array meanwhile
+            PlayerAttribute.clearAll(id);
+            if (freeIdCount == freeIds.length) freeIds = Arrays.copyOf(freeIds, freeIdCount << 1);
+            freeIds[freeIdCount++] = id;
+        }
+    }
+
+    static void refresh(PlayerSession session) {
+        synchronized (SESSION_LOCK) {
+            // a session that has already quit must not be put back into a group
+            if (SESSIONS.get(session.getUniqueId()) != session) return;
+            ungroup(session, session.getProtocolVersion());
+            session.resolveProtocolVersion();
+            group(session, session.getProtocolVersion());
+        }
+    }
+
+    private static void group(PlayerSession session, int protocolVersion) {
+        PROTOCOL_GROUPS.compute(protocolVersion, (k, group) -> {
+            if (group == null) group = ConcurrentHashMap.newKeySet();
+            group.add(session);
+            return group;
+        });
+    }
+
+    private static void ungroup(PlayerSession session, int protocolVersion) {
+        PROTOCOL_GROUPS.computeIfPresent(protocolVersion, (k, group) -> {
+            group.remove(session);
+            return group.isEmpty() ? null : group;
+        });
+    }
+}
@@ -0,0 +1,505 @@
+package one.tranic.t.base.player.spatial;
+
+import one.tranic.t.base.player.Location;
+import one.tranic.t.base.player.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * An incrementally updated spatial index of player positions.
+ * <p>
+ * Players are bucketed per world into 16x16 block columns (one bucket per chunk), so radius, box and
+ * nearest-player queries only visit the buckets around the queried area instead of every online player.
+ * Positions are pushed into the index with {@link #update(Player, String, double, double, double)},
+ * typically from a movement listener or a periodic sweep; players that did not leave their bucket are
+ * updated in place.
+ * <p>
+ * usage:
+ * <pre>
+ *     // movement listener
+ *     PlayerSpatialIndex.global().update(player, world, x, y, z);
+ *     // proximity chat
+ *     for (var p : PlayerSpatialIndex.global().getPlayersInRadius(world, x, y, z, 64)) p.sendMessage(msg);
+ * </pre>
+ * The index is safe for concurrent use. Players are removed from the {@link #global() global} index
+ * automatically when their session ends.
+ */
+@SuppressWarnings("unused")
+public final class PlayerSpatialIndex {
+    private static final int CELL_SHIFT = 4;
+    private static final int CELL_SIZE = 1 << CELL_SHIFT;
+    private static final PlayerSpatialIndex GLOBAL = new PlayerSpatialIndex();
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<UUID, Entry> entries = new HashMap<>();
+    private final Map<String, WorldGrid> worlds = new HashMap<>();
+
+    /**
+     * Retrieves the shared index of all online players.
+     *
+     * @return the global {@code PlayerSpatialIndex}
+     */
+    public static @NotNull PlayerSpatialIndex global() {
+        return GLOBAL;
+    }
+
+    private static int cell(double coordinate) {
+        return ((int) Math.floor(coordinate)) >> CELL_SHIFT;
+    }
+
+    private static long key(int cellX, int cellZ) {
+        return ((long) cellX << 32) | (cellZ & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Updates the position of the specified player from {@link Player#getLocation()}.
+     * <p>
+     * If the player has no location, the player is removed from the index.
+     *
+     * @param player the player to update; must not be null
+     */
+    public void update(@NotNull Player<?> player) {
+        Location location = player.getLocation();
+        if (location == null) remove(player.getUniqueId());
+        else update(player, location.world(), location.x(), location.y(), location.z());
+    }
+
+    /**
+     * Updates the position of the specified player.
+     *
+     * @param player   the player to update; must not be null
+     * @param location the current location of the player; must not be null
+     */
+    public void update(@NotNull Player<?> player, @NotNull Location location) {
+        update(player, location.world(), location.x(), location.y(), location.z());
+    }
+
+    /**
+     * Updates the position of the specified player.
+     *
+     * @param player the player to update; must not be null
+     * @param world  the name of the world the player is in; must not be null
+     * @param x      the x coordinate of the player
+     * @param y      the y coordinate of the player
+     * @param z      the z coordinate of the player
+     */
+    public void update(@NotNull Player<?> player, @NotNull String world, double x, double y, double z) {
+        UUID uuid = player.getUniqueId();
+        int cellX = cell(x), cellZ = cell(z);
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.get(uuid);
+            if (entry == null) {
+                entry = new Entry(player);
+                entries.put(uuid, entry);
+            } else if (entry.grid.name.equals(world) && entry.cellX == cellX && entry.cellZ == cellZ) {
+                entry.x = x;
+                entry.y = y;
+                entry.z = z;
+                return;
+            } else {
+                entry.grid.remove(entry);
+                if (entry.grid.size == 0) worlds.remove(entry.grid.name);
+            }
+            entry.x = x;
+            entry.y = y;
+            entry.z = z;
+            entry.cellX = cellX;
+            entry.cellZ = cellZ;
+            worlds.computeIfAbsent(world, WorldGrid::new).add(entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Updates the positions of all specified players from {@link Player#getLocation()}.
+     *
+     * @param players the players to update; must not be null
+     */
+    public void updateAll(@NotNull Collection<? extends Player<?>> players) {
+        for (Player<?> player : players) update(player);
+    }
+
+    /**
+     * Removes the player identified by the specified UUID from the index.
+     *
+     * @param uuid the UUID of the player; must not be null
+     * @return true if the player was indexed, otherwise false
+     */
+    public boolean remove(@NotNull UUID uuid) {
+        lock.writeLock().lock();
+        try {
+            Entry entry = entries.remove(uuid);
+            if (entry == null) return false;
+            entry.grid.remove(entry);
+            if (entry.grid.size == 0) worlds.remove(entry.grid.name);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes all players from the index.
+     */
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            worlds.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the number of indexed players.
+     *
+     * @return the number of indexed players
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves the last indexed position of the specified player.
+     *
+     * @param uuid the UUID of the player; must not be null
+     * @return the indexed location with zero yaw and pitch, or {@code null} if the player is not indexed
+     */
+    public @Nullable Location getLocation(@NotNull UUID uuid) {
+        lock.readLock().lock();
+        try {
+            Entry entry = entries.get(uuid);
+            return entry != null ? new Location(entry.grid.name, entry.x, entry.y, entry.z, 0f, 0f) : null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Invokes the specified action for every player within a radius of the given point.
+     * <p>
+     * The action runs while the index is locked for reading and must not update the index.
+     *
+     * @param world  the name of the world to search; must not be null
+     * @param x      the x coordinate of the center
+     * @param y      the y coordinate of the center
+     * @param z      the z coordinate of the center
+     * @param radius the radius of the sphere to search, in blocks
+     * @param action the action to invoke for each player found; must not be null
+     */
+    public void forEachInRadius(@NotNull String world, double x, double y, double z, double radius,
+                                @NotNull Consumer<Player<?>> action) {
+        double radiusSquared = radius * radius;
+        int minX = cell(x - radius), maxX = cell(x + radius);
+        int minZ = cell(z - radius), maxZ = cell(z + radius);
+        lock.readLock().lock();
+        try {
+            WorldGrid grid = worlds.get(world);
+            if (grid == null) return;
+            for (Cell cell : grid.cellsIn(minX, maxX, minZ, maxZ)) {
+                for (int i = 0; i < cell.size; i++) {
+                    Entry entry = cell.entries[i];
+                    if (entry.distanceSquared(x, y, z) <= radiusSquared) action.accept(entry.player);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves all players within a radius of the given point.
+     *
+     * @param world  the name of the world to search; must not be null
+     * @param x      the x coordinate of the center
+     * @param y      the y coordinate of the center
+     * @param z      the z coordinate of the center
+     * @param radius the radius of the sphere to search, in blocks
+     * @return a list of the players found; never null
+     */
+    public @NotNull List<Player<?>> getPlayersInRadius(@NotNull String world, double x, double y, double z, double radius) {
+        List<Player<?>> result = new ArrayList<>();
+        forEachInRadius(world, x, y, z, radius, result::add);
+        return result;
+    }
+
+    /**
+     * Retrieves all players within a radius of the given location.
+     *
+     * @param center the center of the search; must not be null
+     * @param radius the radius of the sphere to search, in blocks
+     * @return a list of the players found; never null
+     */
+    public @NotNull List<Player<?>> getPlayersInRadius(@NotNull Location center, double radius) {
+        return getPlayersInRadius(center.world(), center.x(), center.y(), center.z(), radius);
+    }
+
+    /**
+     * Invokes the specified action for every player inside the given axis-aligned box.
+     * <p>
+     * The action runs while the index is locked for reading and must not update the index.
+     *
+     * @param world  the name of the world to search; must not be null
+     * @param minX   the lowest x coordinate of the box
+     * @param minY   the lowest y coordinate of the box
+     * @param minZ   the lowest z coordinate of the box
+     * @param maxX   the highest x coordinate of the box
+     * @param maxY   the highest y coordinate of the box
+     * @param maxZ   the highest z coordinate of the box
+     * @param action the action to invoke for each player found; must not be null
+     */
+    public void forEachInBox(@NotNull String world, double minX, double minY, double minZ,
+                             double maxX, double maxY, double maxZ, @NotNull Consumer<Player<?>> action) {
+        int minCellX = cell(minX), maxCellX = cell(maxX);
+        int minCellZ = cell(minZ), maxCellZ = cell(maxZ);
+        lock.readLock().lock();
+        try {
+            WorldGrid grid = worlds.get(world);
+            if (grid == null) return;
+            for (Cell cell : grid.cellsIn(minCellX, maxCellX, minCellZ, maxCellZ)) {
+                for (int i = 0; i < cell.size; i++) {
+                    Entry entry = cell.entries[i];
+                    if (entry.x >= minX && entry.x <= maxX
+                            && entry.y >= minY && entry.y <= maxY
+                            && entry.z >= minZ && entry.z <= maxZ) action.accept(entry.player);
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Retrieves all players inside the given axis-aligned box.
+     *
+     * @param world the name of the world to search; must not be null
+     * @param minX  the lowest x coordinate of the box
+     * @param minY  the lowest y coordinate of the box
+     * @param minZ  the lowest z coordinate of the box
+     * @param maxX  the highest x coordinate of the box
+     * @param maxY  the highest y coordinate of the box
+     * @param maxZ  the highest z coordinate of the box
+     * @return a list of the players found; never null
+     */
+    public @NotNull List<Player<?>> getPlayersInBox(@NotNull String world, double minX, double minY, double minZ,
+                                                    double maxX, double maxY, double maxZ) {
+        List<Player<?>> result = new ArrayList<>();
+        forEachInBox(world, minX, minY, minZ, maxX, maxY, maxZ, result::add);
+        return result;
+    }
+
+    /**
+     * Retrieves up to {@code count} players closest to the given point, ordered by distance.
+     *
+     * @param world the name of the world to search; must not be null
+     * @param x     the x coordinate of the center
+     * @param y     the y coordinate of the center
+     * @param z     the z coordinate of the center
+     * @param count the maximum number of players to return
+     * @return a list of the players found, nearest first; never null
+     */
+    public @NotNull List<Player<?>> getNearestPlayers(@NotNull String world, double x, double y, double z, int count) {
+        return getNearestPlayers(world, x, y, z, count, Double.POSITIVE_INFINITY);
+    }
+
+    /**
+     * Retrieves up to {@code count} players closest to the given point and no further away than
+     * {@code maxDistance}, ordered by distance.
+     * <p>
+     * Buckets are visited in rings around the center, and the search stops as soon as no unvisited
+     * bucket can contain a closer player.
+     *
+     * @param world       the name of the world to search; must not be null
+     * @param x           the x coordinate of the center
+     * @param y           the y coordinate of the center
+     * @param z           the z coordinate of the center
+     * @param count       the maximum number of players to return
+     * @param maxDistance the maximum distance of the returned players, in blocks
+     * @return a list of the players found, nearest first; never null
+     */
+    public @NotNull List<Player<?>> getNearestPlayers(@NotNull String world, double x, double y, double z,
+                                                      int count, double maxDistance) {
+        if (count <= 0) return new ArrayList<>(0);
+        double maxDistanceSquared = maxDistance * maxDistance;
+        int centerX = cell(x), centerZ = cell(z);
+        PriorityQueue<Candidate> best = new PriorityQueue<>(count, Comparator.comparingDouble(Candidate::distanceSquared).reversed());
+        lock.readLock().lock();
+        try {
+            WorldGrid grid = worlds.get(world);
+            if (grid == null) return new ArrayList<>(0);
+            for (int ring = 0; ; ring++) {
+                long side = 2L * ring + 1;
+                if (side * side > 4L * grid.cells.size()) {
+                    // the ring covers more buckets than exist, scanning the remaining buckets directly is cheaper
+                    for (Map.Entry<Long, Cell> e : grid.cells.entrySet()) {
+                        long key = e.getKey();
+                        int cx = (int) (key >> 32), cz = (int) key;
+                        if (Math.abs(cx - centerX) < ring && Math.abs(cz - centerZ) < ring) continue;
+                        offer(best, count, e.getValue(), x, y, z, maxDistanceSquared);
+                    }
+                    break;
+                }
+                for (int cx = centerX - ring; cx <= centerX + ring; cx++) {
+                    boolean edgeX = cx == centerX - ring || cx == centerX + ring;
+                    for (int cz = centerZ - ring; cz <= centerZ + ring; cz += edgeX ? 1 : ring * 2) {
+                        Cell cell = grid.cells.get(key(cx, cz));
+                        if (cell != null) offer(best, count, cell, x, y, z, maxDistanceSquared);
+                    }
+                }
+                // distance from the center to the nearest bucket that has not been visited yet
+                double margin = Math.min(
+                        Math.min(x - ((double) (centerX - ring) * CELL_SIZE), ((double) (centerX + ring + 1) * CELL_SIZE) - x),
+                        Math.min(z - ((double) (centerZ - ring) * CELL_SIZE), ((double) (centerZ + ring + 1) * CELL_SIZE) - z));
+                double marginSquared = margin * margin;
+                if (marginSquared > maxDistanceSquared) break;
+                if (best.size() == count && best.peek().distanceSquared() <= marginSquared) break;
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        Candidate[] sorted = best.toArray(new Candidate[0]);
+        Arrays.sort(sorted, Comparator.comparingDouble(Candidate::distanceSquared));
+        List<Player<?>> result = new ArrayList<>(sorted.length);
+        for (Candidate candidate : sorted) result.add(candidate.player());
+        return result;
+    }
+
+    /**
+     * Retrieves up to {@code count} players closest to the given location, ordered by distance.
+     *
+     * @param center the center of the search; must not be null
+     * @param count  the maximum number of players to return
+     * @return a list of the players found, nearest first; never null
+     */
+    public @NotNull List<Player<?>> getNearestPlayers(@NotNull Location center, int count) {
+        return getNearestPlayers(center.world(), center.x(), center.y(), center.z(), count);
+    }
+
+    private static void offer(PriorityQueue<Candidate> best, int count, Cell cell,
+                              double x, double y, double z, double maxDistanceSquared) {
+        for (int i = 0; i < cell.size; i++) {
+            Entry entry = cell.entries[i];
+            double distanceSquared = entry.distanceSquared(x, y, z);
+            if (distanceSquared > maxDistanceSquared) continue;
+            if (best.size() < count) {
+                best.add(new Candidate(entry.player, distanceSquared));
+            } else if (distanceSquared < best.peek().distanceSquared()) {
+                best.poll();
+                best.add(new Candidate(entry.player, distanceSquared));
+            }
+        }
+    }
+
+    private record Candidate(Player<?> player, double distanceSquared) {
+    }
+
+    private static final class Entry {
+        private final Player<?> player;
+        private WorldGrid grid;
+        private Cell cell;
+        private int slot;
+        private int cellX;
+        private int cellZ;
+        private double x;
+        private double y;
+        private double z;
+
+        private Entry(Player<?> player) {
+            this.player = player;
+        }
+
+        private double distanceSquared(double px, double py, double pz) {
+            double dx = x - px, dy = y - py, dz = z - pz;
+            return dx * dx + dy * dy + dz * dz;
+        }
+    }
+
+    private static final class Cell {
+        private Entry[] entries = new Entry[4];
+        private int size;
+
+        private void add(Entry entry) {
+            if (size == entries.length) entries = Arrays.copyOf(entries, size << 1);
+            entry.cell = this;
+            entry.slot = size;
+            entries[size++] = entry;
+        }
+
+        private void remove(Entry entry) {
+            int slot = entry.slot;
+            Entry last = entries[--size];
+            entries[slot] = last;
+            last.slot = slot;
+            entries[size] = null;
+            entry.cell = null;
+        }
+    }
+
+    private static final class WorldGrid {
+        private final String name;
+        private final Map<Long, Cell> cells = new HashMap<>();
+        private int size;
+
+        private WorldGrid(String name) {
+            this.name = name;
+        }
+
+        private void add(Entry entry) {
+            entry.grid = this;
+            cells.computeIfAbsent(key(entry.cellX, entry.cellZ), k -> new Cell()).add(entry);
+            size++;
+        }
+
+        private void remove(Entry entry) {
+            Cell cell = entry.cell;
+            cell.remove(entry);
+            if (cell.size == 0) cells.remove(key(entry.cellX, entry.cellZ));
+            size--;
+        }
+
+        /**
+         * Collects the occupied buckets within a range of bucket coordinates. Ranges larger than the number of
+         * occupied buckets, up to an unbounded radius, are answered by scanning the occupied buckets instead.
+         */
+        private List<Cell> cellsIn(int minX, int maxX, int minZ, int maxZ) {
+            List<Cell> result = new ArrayList<>();
+            if (minX > maxX || minZ > maxZ) return result;
+            long area = ((long) maxX - minX + 1) * ((long) maxZ - minZ + 1);
+            if (area > cells.size()) {
+                for (Map.Entry<Long, Cell> e : cells.entrySet()) {
+                    long key = e.getKey();
+                    int cx = (int) (key >> 32), cz = (int) key;
+                    if (cx >= minX && cx <= maxX && cz >= minZ && cz <= maxZ) result.add(e.getValue());
+                }
+                return result;
+            }
+            for (int cx = minX; cx <= maxX; cx++) {
+                for (int cz = minZ; cz <= maxZ; cz++) {
+                    Cell cell = cells.get(key(cx, cz));
+                    if (cell != null) result.add(cell);
+                }
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,248 @@
+package one.tranic.t.base.player.spatial;
+
+import one.tranic.t.base.TBase;
+import one.tranic.t.base.TInterface;
+import one.tranic.t.base.player.Location;
+import one.tranic.t.base.player.Player;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * A columnar buffer of player positions.
+ * <p>
+ * Each position is stored across parallel primitive arrays (world identifier, x, y, z, yaw and pitch)
+ * instead of one {@link Location} object per player. Once a buffer has grown to the size of the online
+ * player set, refilling it every tick allocates nothing, and the backing arrays can be processed
+ * with tight loops that the JIT is able to vectorize.
+ * <p>
+ * usage:
+ * <pre>
+ *     var buffer = new PositionBuffer(256);
+ *     // every tick
+ *     buffer.fill(TBase.INSTANCE.getOnlinePlayers());
+ *     double[] ys = buffer.ys();
+ *     for (int i = 0; i &lt; buffer.size(); i++) if (ys[i] &lt; 0) ...;
+ * </pre>
+ * Buffers are not thread-safe.
+ */
+@SuppressWarnings("unused")
+public final class PositionBuffer {
+    private Player<?>[] players;
+    private int[] worlds;
+    private double[] xs;
+    private double[] ys;
+    private double[] zs;
+    private float[] yaws;
+    private float[] pitches;
+    private int size;
+
+    /**
+     * Creates an empty buffer with the specified initial capacity.
+     *
+     * @param capacity the number of positions the buffer can hold before growing
+     */
+    public PositionBuffer(int capacity) {
+        capacity = Math.max(capacity, 1);
+        this.players = new Player<?>[capacity];
+        this.worlds = new int[capacity];
+        this.xs = new double[capacity];
+        this.ys = new double[capacity];
+        this.zs = new double[capacity];
+        this.yaws = new float[capacity];
+        this.pitches = new float[capacity];
+    }
+
+    /**
+     * Replaces the content of this buffer with the positions of all online players.
+     *
+     * @return the number of positions written
+     */
+    public int sampleOnlinePlayers() {
+        TInterface<?, ?> instance = TBase.INSTANCE;
+        return fill(instance.getOnlinePlayers());
+    }
+
+    /**
+     * Replaces the content of this buffer with the positions of the specified players.
+     * <p>
+     * Positions are obtained through {@link Player#writePosition(PositionBuffer)}; players without a location are skipped.
+     *
+     * @param players the players to sample; must not be null
+     * @return the number of positions written
+     */
+    public int fill(@NotNull Collection<? extends Player<?>> players) {
+        clear();
+        ensureCapacity(players.size());
+        for (Player<?> player : players) player.writePosition(this);
+        return size;
+    }
+
+    /**
+     * Appends a position to this buffer.
+     *
+     * @param player  the player the position belongs to; may be null
+     * @param worldId the identifier of the world, as returned by {@link WorldIds#of(String)}
+     * @param x       the x coordinate
+     * @param y       the y coordinate
+     * @param z       the z coordinate
+     * @param yaw     the yaw rotation
+     * @param pitch   the pitch rotation
+     * @return the index of the appended position
+     */
+    public int add(@Nullable Player<?> player, int worldId, double x, double y, double z, float yaw, float pitch) {
+        if (size == xs.length) ensureCapacity(size + 1);
+        int i = size++;
+        players[i] = player;
+        worlds[i] = worldId;
+        xs[i] = x;
+        ys[i] = y;
+        zs[i] = z;
+        yaws[i] = yaw;
+        pitches[i] = pitch;
+        return i;
+    }
+
+    /**
+     * Appends a location to this buffer.
+     *
+     * @param player   the player the location belongs to; may be null
+     * @param location the location to append; must not be null
+     * @return the index of the appended position
+     */
+    public int add(@Nullable Player<?> player, @NotNull Location location) {
+        return add(player, WorldIds.of(location.world()), location.x(), location.y(), location.z(), location.yaw(), location.pitch());
+    }
+
+    /**
+     * Overwrites the position at the specified index with a location.
+     *
+     * @param index    the index of the position
+     * @param location the location to store; must not be null
+     * @throws IndexOutOfBoundsException if the index is not lower than {@link #size()}
+     */
+    public void set(int index, @NotNull Location location) {
+        checkIndex(index);
+        worlds[index] = WorldIds.of(location.world());
+        xs[index] = location.x();
+        ys[index] = location.y();
+        zs[index] = location.z();
+        yaws[index] = location.yaw();
+        pitches[index] = location.pitch();
+    }
+
+    /**
+     * Creates a {@link Location} from the position at the specified index.
+     *
+     * @param index the index of the position
+     * @return a new {@code Location} holding the position
+     * @throws IndexOutOfBoundsException if the index is not lower than {@link #size()}
+     * @throws IllegalStateException     if the world identifier of the position was not assigned by {@link WorldIds#of(String)}
+     */
+    public @NotNull Location toLocation(int index) {
+        checkIndex(index);
+        String world = WorldIds.name(worlds[index]);
+        if (world == null) throw new IllegalStateException("Unknown world identifier " + worlds[index] + " at index " + index);
+        return new Location(world, xs[index], ys[index], zs[index], yaws[index], pitches[index]);
+    }
+
+    /**
+     * Retrieves the player the position at the specified index belongs to.
+     *
+     * @param index the index of the position
+     * @return the player, or {@code null} if none was recorded
+     */
+    public @Nullable Player<?> player(int index) {
+        checkIndex(index);
+        return players[index];
+    }
+
+    /**
+     * Retrieves the number of positions stored in this buffer.
+     *
+     * @return the number of positions
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Removes all positions from this buffer without releasing its capacity.
+     */
+    public void clear() {
+        Arrays.fill(players, 0, size, null);
+        size = 0;
+    }
+
+    /**
+     * Retrieves the backing array of world identifiers. Only the first {@link #size()} elements are valid.
+     *
+     * @return the backing array of world identifiers
+     */
+    public int[] worldIds() {
+        return worlds;
+    }
+
+    /**
+     * Retrieves the backing array of x coordinates. Only the first {@link #size()} elements are valid.
+     *
+     * @return the backing array of x coordinates
+     */
+    public double[] xs() {
+        return xs;
+    }
+
+    /**
+     * Retrieves the backing array of y coordinates. Only the first {@link #size()} elements are valid.
+     *
+     * @return the backing array of y coordinates
+     */
+    public double[] ys() {
+        return ys;
+    }
+
+    /**
+     * Retrieves the backing array of z coordinates. Only the first {@link #size()} elements are valid.
+     *
+     * @return the backing array of z coordinates
+     */
+    public double[] zs() {
+        return zs;
+    }
+
+    /**
+     * Retrieves the backing array of yaw rotations. Only the first {@link #size()} elements are valid.
+     *
+     * @return the backing array of yaw rotations
+     */
+    public float[] yaws() {
+        return yaws;
+    }
+
+    /**
+     * Retrieves the backing array of pitch rotations. Only the first {@link #size()} elements are valid.
+     *
+     * @return the backing array of pitch rotations
+     */
+    public float[] pitches() {
+        return pitches;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= xs.length) return;
+        int newCapacity = Math.max(capacity, xs.length + (xs.length >> 1));
+        players = Arrays.copyOf(players, newCapacity);
+        worlds = Arrays.copyOf(worlds, newCapacity);
+        xs = Arrays.copyOf(xs, newCapacity);
+        ys = Arrays.copyOf(ys, newCapacity);
+        zs = Arrays.copyOf(zs, newCapacity);
+        yaws = Arrays.copyOf(yaws, newCapacity);
+        pitches = Arrays.copyOf(pitches, newCapacity);
+    }
+}
@@ -0,0 +1,64 @@
+package one.tranic.t.base.player.spatial;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Assigns compact integer identifiers to world names.
+ * <p>
+ * Identifiers are assigned on first use, start at zero and are never reused,
+ * so they can be stored in primitive arrays in place of the world name.
+ */
+public final class WorldIds {
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[0];
+
+    private WorldIds() {
+    }
+
+    /**
+     * Retrieves the identifier of the specified world, assigning a new one if the world has not been seen before.
+     *
+     * @param world the name of the world; must not be null
+     * @return the identifier of the world
+     */
+    public static int of(@NotNull String world) {
+        Integer id = IDS.get(world);
+        if (id != null) return id;
+        synchronized (WorldIds.class) {
+            id = IDS.get(world);
+            if (id != null) return id;
+            String[] n = names;
+            int next = n.length;
+            n = Arrays.copyOf(n, next + 1);
+            n[next] = world;
+            names = n;
+            IDS.put(world, next);
+            return next;
+        }
+    }
+
+    /**
+     * Retrieves the name of the world with the specified identifier.
+     *
+     * @param id the identifier returned by {@link #of(String)}
+     * @return the name of the world, or {@code null} if no world has this identifier
+     */
+    public static @Nullable String name(int id) {
+        String[] n = names;
+        return id >= 0 && id < n.length ? n[id] : null;
+    }
+
+    /**
+     * Retrieves the number of identifiers assigned so far.
+     *
+     * @return the number of known worlds
+     */
+    public static int size() {
+        return names.length;
+    }
+}
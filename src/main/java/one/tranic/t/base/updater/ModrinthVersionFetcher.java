@@ -1,11 +1,11 @@
 package one.tranic.t.base.updater;
 
+import com.google.gson.stream.JsonReader;
 import one.tranic.t.base.parse.json.JsonParser;
 import one.tranic.t.base.updater.schemas.modrinth.Loaders;
 import one.tranic.t.base.updater.schemas.modrinth.ModrinthVersionSource;
 import one.tranic.t.proxy.RequestWithProxyParser;
 
-import java.io.InputStreamReader;
 import java.net.HttpURLConnection;
 import java.util.Objects;
 
@@ -29,10 +29,10 @@ public class ModrinthVersionFetcher extends VersionFetcher {
         HttpURLConnection connection = null;
         try {
             connection = RequestWithProxyParser.openConnection(updateCheckURL);
-            try (InputStreamReader reader = new InputStreamReader(connection.getInputStream())) {
-                var versions = JsonParser.fromJson(reader, ModrinthVersionSource[].class);
-                if (versions.length == 0) return null;
-                ModrinthVersionSource latestVersion = versions[0];
+            // only the latest version is needed, the rest of the list is never read
+            try (JsonReader reader = JsonParser.newReader(connection.getInputStream())) {
+                ModrinthVersionSource latestVersion = JsonParser.readFirst(reader, ModrinthVersionSource.class);
+                if (latestVersion == null) return null;
                 if (hasCompatibleLoader(latestVersion) && !Objects.equals(currentVersion, latestVersion.getVersionNumber())) {
                     updateResourceURL(MODRINTH_PROJECT_URL + latestVersion.getProjectId() + "/version/" + latestVersion.getVersionNumber());
                     return latestVersion.getVersionNumber();
@@ -1,7 +1,7 @@
 package one.tranic.t.base.updater;
 
 import net.kyori.adventure.text.Component;
-import net.kyori.adventure.text.minimessage.MiniMessage;
+import one.tranic.t.base.message.MessageTemplate;
 import one.tranic.t.proxy.RequestWithProxyParser;
 import one.tranic.t.thread.T2hread;
 import org.jetbrains.annotations.NotNull;
@@ -25,13 +25,17 @@ public abstract class VersionFetcher implements AutoCloseable, Runnable {
     private static final long CACHE_EXPIRY_MINUTES = 1440;
     private static final int SLEEP_HOURS = 2;
 
-    private static final String UPDATE_MESSAGE_TEMPLATE = "<aqua>[{plugin}]</aqua> <gold>The plugin has an update available, from </gold>"
-            + "<aqua>{oldVersion}</aqua> <gold>to</gold> <aqua>{latestVersion}</aqua> <gold>, download address: </gold>"
-            + "<aqua>{resourceURL}</aqua>";
+    private static final MessageTemplate UPDATE_MESSAGE_TEMPLATE = MessageTemplate.compile(
+            "<aqua>[<plugin>]</aqua> <gold>The plugin has an update available, from </gold>"
+                    + "<aqua><old_version></aqua> <gold>to</gold> <aqua><latest_version></aqua> <gold>, download address: </gold>"
+                    + "<aqua><resource_url></aqua>",
+            "plugin", "old_version", "latest_version", "resource_url");
+    private static final MessageTemplate NO_UPDATE_MESSAGE_TEMPLATE = MessageTemplate.compile(
+            "<aqua>[<plugin>]</aqua> <green> Already the latest version (or because of cache)</green>", "plugin");
     final URL updateCheckURL;
     final String currentVersion;
     private final String pluginName;
-    private final String noUpdateTemplate;
+    private final Component noUpdateMessage;
     private String resourceURL;
     private Thread updateThread;
     private String latestVersion;
@@ -65,7 +69,7 @@ public abstract class VersionFetcher implements AutoCloseable, Runnable {
             throw new RuntimeException(e);
         }
         this.resourceURL = Objects.requireNonNullElse(resourceURL, "https://spigotmc.org/resources/");
-        this.noUpdateTemplate = "<aqua>[" + pluginName + "]</aqua> <green> Already the latest version (or because of cache)</green>";
+        this.noUpdateMessage = NO_UPDATE_MESSAGE_TEMPLATE.render(pluginName);
     }
 
     /**
@@ -117,30 +121,25 @@ public abstract class VersionFetcher implements AutoCloseable, Runnable {
     /**
      * Generates and returns an update notification message in a formatted style.
      * <p>
-     * The message is created based on the placeholders in the update message template,
-     * replacing them with the current plugin's name, version, the latest version available,
+     * The message is rendered from the precompiled update message template,
+     * filling in the current plugin's name, version, the latest version available,
      * and the corresponding resource URL.
      *
      * @return a formatted {@code Component} representing the update message.
      */
     public @NotNull Component getUpdateMessage() {
-        String parsedMessage = UPDATE_MESSAGE_TEMPLATE
-                .replace("{plugin}", pluginName)
-                .replace("{oldVersion}", currentVersion)
-                .replace("{latestVersion}", getLatestVersion())
-                .replace("{resourceURL}", getResourceURL());
-        return MiniMessage.miniMessage().deserialize(parsedMessage);
+        return UPDATE_MESSAGE_TEMPLATE.render(pluginName, currentVersion, getLatestVersion(), getResourceURL());
     }
 
     /**
      * Builds and returns a message component indicating that no update is available.
      * <p>
-     * The message content is derived from the pre-defined <code>noUpdateTemplate</code>.
+     * The message is rendered once from the precompiled template when the fetcher is constructed.
      *
      * @return a {@link Component} representing the "no update available" message.
      */
     public Component getNoUpdateMessage() {
-        return MiniMessage.miniMessage().deserialize(noUpdateTemplate);
+        return noUpdateMessage;
     }
 
     /**
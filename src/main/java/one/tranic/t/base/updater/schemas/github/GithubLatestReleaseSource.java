@@ -1,10 +1,22 @@
 package one.tranic.t.base.updater.schemas.github;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import one.tranic.t.base.parse.json.JsonAdapters;
 
+import java.io.IOException;
 import java.util.List;
 
+@JsonAdapter(GithubLatestReleaseSource.Adapter.class)
 public class GithubLatestReleaseSource {
+    /**
+     * Reads and writes a release of the GitHub API without reflection, skipping the body and the assets.
+     */
+    public static final TypeAdapter<GithubLatestReleaseSource> ADAPTER = new Adapter().nullSafe();
+
     private String url;
     @SerializedName("assets_url")
     private String assetsUrl;
@@ -94,6 +106,16 @@ public class GithubLatestReleaseSource {
         return publishedAt;
     }
 
+    /**
+     * Retrieves the assets of the release.
+     * <p>
+     * {@link #ADAPTER}, which the shared Gson of {@link one.tranic.t.base.parse.json.JsonParser} uses, skips the
+     * assets, so this is null for releases read through it.
+     *
+     * @return the assets, or null if they were not read
+     * @deprecated the assets are no longer read from the GitHub API
+     */
+    @Deprecated
     public List<Asset> getAssets() {
         return assets;
     }
@@ -106,12 +128,25 @@ public class GithubLatestReleaseSource {
         return zipballUrl;
     }
 
+    /**
+     * Retrieves the release notes.
+     * <p>
+     * {@link #ADAPTER}, which the shared Gson of {@link one.tranic.t.base.parse.json.JsonParser} uses, skips the
+     * body, so this is null for releases read through it.
+     *
+     * @return the release notes, or null if they were not read
+     * @deprecated the release notes are no longer read from the GitHub API
+     */
+    @Deprecated
     public String getBody() {
         return body;
     }
 
     // Nested classes
+    @JsonAdapter(Author.Adapter.class)
     public static class Author {
+        public static final TypeAdapter<Author> ADAPTER = new Adapter().nullSafe();
+
         private String login;
         private long id;
         @SerializedName("node_id")
@@ -220,6 +255,63 @@ public class GithubLatestReleaseSource {
         public boolean isSiteAdmin() {
             return siteAdmin;
         }
+
+        static final class Adapter extends TypeAdapter<Author> {
+            @Override
+            public void write(JsonWriter out, Author value) throws IOException {
+                out.beginObject();
+                out.name("login").value(value.login);
+                out.name("id").value(value.id);
+                out.name("node_id").value(value.nodeId);
+                out.name("avatar_url").value(value.avatarUrl);
+                out.name("gravatar_id").value(value.gravatarId);
+                out.name("url").value(value.url);
+                out.name("html_url").value(value.htmlUrl);
+                out.name("followers_url").value(value.followersUrl);
+                out.name("following_url").value(value.followingUrl);
+                out.name("gists_url").value(value.gistsUrl);
+                out.name("starred_url").value(value.starredUrl);
+                out.name("subscriptions_url").value(value.subscriptionsUrl);
+                out.name("organizations_url").value(value.organizationsUrl);
+                out.name("repos_url").value(value.reposUrl);
+                out.name("events_url").value(value.eventsUrl);
+                out.name("received_events_url").value(value.receivedEventsUrl);
+                out.name("type").value(value.type);
+                out.name("site_admin").value(value.siteAdmin);
+                out.endObject();
+            }
+
+            @Override
+            public Author read(JsonReader in) throws IOException {
+                Author value = new Author();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "login" -> value.login = JsonAdapters.nextString(in);
+                        case "id" -> value.id = JsonAdapters.nextLong(in);
+                        case "node_id" -> value.nodeId = JsonAdapters.nextString(in);
+                        case "avatar_url" -> value.avatarUrl = JsonAdapters.nextString(in);
+                        case "gravatar_id" -> value.gravatarId = JsonAdapters.nextString(in);
+                        case "url" -> value.url = JsonAdapters.nextString(in);
+                        case "html_url" -> value.htmlUrl = JsonAdapters.nextString(in);
+                        case "followers_url" -> value.followersUrl = JsonAdapters.nextString(in);
+                        case "following_url" -> value.followingUrl = JsonAdapters.nextString(in);
+                        case "gists_url" -> value.gistsUrl = JsonAdapters.nextString(in);
+                        case "starred_url" -> value.starredUrl = JsonAdapters.nextString(in);
+                        case "subscriptions_url" -> value.subscriptionsUrl = JsonAdapters.nextString(in);
+                        case "organizations_url" -> value.organizationsUrl = JsonAdapters.nextString(in);
+                        case "repos_url" -> value.reposUrl = JsonAdapters.nextString(in);
+                        case "events_url" -> value.eventsUrl = JsonAdapters.nextString(in);
+                        case "received_events_url" -> value.receivedEventsUrl = JsonAdapters.nextString(in);
+                        case "type" -> value.type = JsonAdapters.nextString(in);
+                        case "site_admin" -> value.siteAdmin = JsonAdapters.nextBoolean(in);
+                        default -> in.skipValue();
+                    }
+                }
+                in.endObject();
+                return value;
+            }
+        }
     }
 
     public static class Asset {
@@ -410,4 +502,59 @@ public class GithubLatestReleaseSource {
             }
         }
     }
+
+    static final class Adapter extends TypeAdapter<GithubLatestReleaseSource> {
+        @Override
+        public void write(JsonWriter out, GithubLatestReleaseSource value) throws IOException {
+            out.beginObject();
+            out.name("url").value(value.url);
+            out.name("assets_url").value(value.assetsUrl);
+            out.name("upload_url").value(value.uploadUrl);
+            out.name("html_url").value(value.htmlUrl);
+            out.name("id").value(value.id);
+            out.name("author");
+            Author.ADAPTER.write(out, value.author);
+            out.name("node_id").value(value.nodeId);
+            out.name("tag_name").value(value.tagName);
+            out.name("target_commitish").value(value.targetCommitish);
+            out.name("name").value(value.name);
+            out.name("draft").value(value.draft);
+            out.name("prerelease").value(value.prerelease);
+            out.name("created_at").value(value.createdAt);
+            out.name("published_at").value(value.publishedAt);
+            out.name("tarball_url").value(value.tarballUrl);
+            out.name("zipball_url").value(value.zipballUrl);
+            out.endObject();
+        }
+
+        @Override
+        public GithubLatestReleaseSource read(JsonReader in) throws IOException {
+            GithubLatestReleaseSource value = new GithubLatestReleaseSource();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "url" -> value.url = JsonAdapters.nextString(in);
+                    case "assets_url" -> value.assetsUrl = JsonAdapters.nextString(in);
+                    case "upload_url" -> value.uploadUrl = JsonAdapters.nextString(in);
+                    case "html_url" -> value.htmlUrl = JsonAdapters.nextString(in);
+                    case "id" -> value.id = JsonAdapters.nextLong(in);
+                    case "author" -> value.author = Author.ADAPTER.read(in);
+                    case "node_id" -> value.nodeId = JsonAdapters.nextString(in);
+                    case "tag_name" -> value.tagName = JsonAdapters.nextString(in);
+                    case "target_commitish" -> value.targetCommitish = JsonAdapters.nextString(in);
+                    case "name" -> value.name = JsonAdapters.nextString(in);
+                    case "draft" -> value.draft = JsonAdapters.nextBoolean(in);
+                    case "prerelease" -> value.prerelease = JsonAdapters.nextBoolean(in);
+                    case "created_at" -> value.createdAt = JsonAdapters.nextString(in);
+                    case "published_at" -> value.publishedAt = JsonAdapters.nextString(in);
+                    case "tarball_url" -> value.tarballUrl = JsonAdapters.nextString(in);
+                    case "zipball_url" -> value.zipballUrl = JsonAdapters.nextString(in);
+                    // anything else, including the release notes and the asset list, which can be large, is not needed
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
 }
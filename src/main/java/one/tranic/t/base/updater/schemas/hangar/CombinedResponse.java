@@ -1,11 +1,23 @@
 package one.tranic.t.base.updater.schemas.hangar;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import one.tranic.t.base.parse.json.JsonAdapters;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
+@JsonAdapter(CombinedResponse.Adapter.class)
 public class CombinedResponse {
+    /**
+     * Reads and writes a page of Hangar versions without reflection.
+     */
+    public static final TypeAdapter<CombinedResponse> ADAPTER = new Adapter().nullSafe();
+
     private Pagination pagination;
     private List<VersionResult> result;
 
@@ -20,7 +32,10 @@ public class CombinedResponse {
         return result;
     }
 
+    @JsonAdapter(Pagination.Adapter.class)
     public static class Pagination {
+        public static final TypeAdapter<Pagination> ADAPTER = new Adapter().nullSafe();
+
         private int limit;
         private int offset;
         private int count;
@@ -39,9 +54,41 @@ public class CombinedResponse {
         public int getCount() {
             return count;
         }
+
+        static final class Adapter extends TypeAdapter<Pagination> {
+            @Override
+            public void write(JsonWriter out, Pagination value) throws IOException {
+                out.beginObject();
+                out.name("limit").value(value.limit);
+                out.name("offset").value(value.offset);
+                out.name("count").value(value.count);
+                out.endObject();
+            }
+
+            @Override
+            public Pagination read(JsonReader in) throws IOException {
+                Pagination value = new Pagination();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "limit" -> value.limit = JsonAdapters.nextInt(in);
+                        case "offset" -> value.offset = JsonAdapters.nextInt(in);
+                        case "count" -> value.count = JsonAdapters.nextInt(in);
+                        default -> in.skipValue();
+                    }
+                }
+                in.endObject();
+                return value;
+            }
+        }
     }
 
+    @JsonAdapter(VersionResult.Adapter.class)
     public static class VersionResult {
+        public static final TypeAdapter<VersionResult> ADAPTER = new Adapter().nullSafe();
+        private static final TypeAdapter<List<String>> STRING_LIST = JsonAdapters.listOf(JsonAdapters.STRING);
+        private static final TypeAdapter<List<PluginDependency>> PLUGIN_DEPENDENCIES = JsonAdapters.listOf(PluginDependency.ADAPTER);
+
         private String createdAt;
         private String name;
         private String visibility;
@@ -111,7 +158,10 @@ public class CombinedResponse {
             return platformDependenciesFormatted;
         }
 
+        @JsonAdapter(Stats.Adapter.class)
         public static class Stats {
+            public static final TypeAdapter<Stats> ADAPTER = new Adapter().nullSafe();
+
             private int totalDownloads;
             private Map<String, Integer> platformDownloads;
 
@@ -125,9 +175,38 @@ public class CombinedResponse {
             public Map<String, Integer> getPlatformDownloads() {
                 return platformDownloads;
             }
+
+            static final class Adapter extends TypeAdapter<Stats> {
+                @Override
+                public void write(JsonWriter out, Stats value) throws IOException {
+                    out.beginObject();
+                    out.name("totalDownloads").value(value.totalDownloads);
+                    out.name("platformDownloads");
+                    JsonAdapters.writeMap(out, value.platformDownloads, JsonAdapters.INTEGER);
+                    out.endObject();
+                }
+
+                @Override
+                public Stats read(JsonReader in) throws IOException {
+                    Stats value = new Stats();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        switch (in.nextName()) {
+                            case "totalDownloads" -> value.totalDownloads = JsonAdapters.nextInt(in);
+                            case "platformDownloads" -> value.platformDownloads = JsonAdapters.readMap(in, JsonAdapters.INTEGER);
+                            default -> in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    return value;
+                }
+            }
         }
 
+        @JsonAdapter(Channel.Adapter.class)
         public static class Channel {
+            public static final TypeAdapter<Channel> ADAPTER = new Adapter().nullSafe();
+
             private String name;
             private String createdAt;
             private String description;
@@ -156,9 +235,44 @@ public class CombinedResponse {
             public List<String> getFlags() {
                 return flags;
             }
+
+            static final class Adapter extends TypeAdapter<Channel> {
+                @Override
+                public void write(JsonWriter out, Channel value) throws IOException {
+                    out.beginObject();
+                    out.name("name").value(value.name);
+                    out.name("createdAt").value(value.createdAt);
+                    out.name("description").value(value.description);
+                    out.name("color").value(value.color);
+                    out.name("flags");
+                    JsonAdapters.writeList(out, value.flags, JsonAdapters.STRING);
+                    out.endObject();
+                }
+
+                @Override
+                public Channel read(JsonReader in) throws IOException {
+                    Channel value = new Channel();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        switch (in.nextName()) {
+                            case "name" -> value.name = JsonAdapters.nextString(in);
+                            case "createdAt" -> value.createdAt = JsonAdapters.nextString(in);
+                            case "description" -> value.description = JsonAdapters.nextString(in);
+                            case "color" -> value.color = JsonAdapters.nextString(in);
+                            case "flags" -> value.flags = JsonAdapters.readList(in, JsonAdapters.STRING);
+                            default -> in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    return value;
+                }
+            }
         }
 
+        @JsonAdapter(FileInfo.Adapter.class)
         public static class FileInfo {
+            public static final TypeAdapter<FileInfo> ADAPTER = new Adapter().nullSafe();
+
             private String name;
             private int sizeBytes;
             private String sha256Hash;
@@ -177,9 +291,39 @@ public class CombinedResponse {
             public String getSha256Hash() {
                 return sha256Hash;
             }
+
+            static final class Adapter extends TypeAdapter<FileInfo> {
+                @Override
+                public void write(JsonWriter out, FileInfo value) throws IOException {
+                    out.beginObject();
+                    out.name("name").value(value.name);
+                    out.name("sizeBytes").value(value.sizeBytes);
+                    out.name("sha256Hash").value(value.sha256Hash);
+                    out.endObject();
+                }
+
+                @Override
+                public FileInfo read(JsonReader in) throws IOException {
+                    FileInfo value = new FileInfo();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        switch (in.nextName()) {
+                            case "name" -> value.name = JsonAdapters.nextString(in);
+                            case "sizeBytes" -> value.sizeBytes = JsonAdapters.nextInt(in);
+                            case "sha256Hash" -> value.sha256Hash = JsonAdapters.nextString(in);
+                            default -> in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    return value;
+                }
+            }
         }
 
+        @JsonAdapter(DownloadInfo.Adapter.class)
         public static class DownloadInfo {
+            public static final TypeAdapter<DownloadInfo> ADAPTER = new Adapter().nullSafe();
+
             private FileInfo fileInfo;
             private String externalUrl;
             private String downloadUrl;
@@ -198,9 +342,40 @@ public class CombinedResponse {
             public String getDownloadUrl() {
                 return downloadUrl;
             }
+
+            static final class Adapter extends TypeAdapter<DownloadInfo> {
+                @Override
+                public void write(JsonWriter out, DownloadInfo value) throws IOException {
+                    out.beginObject();
+                    out.name("fileInfo");
+                    FileInfo.ADAPTER.write(out, value.fileInfo);
+                    out.name("externalUrl").value(value.externalUrl);
+                    out.name("downloadUrl").value(value.downloadUrl);
+                    out.endObject();
+                }
+
+                @Override
+                public DownloadInfo read(JsonReader in) throws IOException {
+                    DownloadInfo value = new DownloadInfo();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        switch (in.nextName()) {
+                            case "fileInfo" -> value.fileInfo = FileInfo.ADAPTER.read(in);
+                            case "externalUrl" -> value.externalUrl = JsonAdapters.nextString(in);
+                            case "downloadUrl" -> value.downloadUrl = JsonAdapters.nextString(in);
+                            default -> in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    return value;
+                }
+            }
         }
 
+        @JsonAdapter(PluginDependency.Adapter.class)
         public static class PluginDependency {
+            public static final TypeAdapter<PluginDependency> ADAPTER = new Adapter().nullSafe();
+
             private String name;
             private boolean required;
             private String externalUrl;
@@ -224,6 +399,115 @@ public class CombinedResponse {
             public String getPlatform() {
                 return platform;
             }
+
+            static final class Adapter extends TypeAdapter<PluginDependency> {
+                @Override
+                public void write(JsonWriter out, PluginDependency value) throws IOException {
+                    out.beginObject();
+                    out.name("name").value(value.name);
+                    out.name("required").value(value.required);
+                    out.name("externalUrl").value(value.externalUrl);
+                    out.name("platform").value(value.platform);
+                    out.endObject();
+                }
+
+                @Override
+                public PluginDependency read(JsonReader in) throws IOException {
+                    PluginDependency value = new PluginDependency();
+                    in.beginObject();
+                    while (in.hasNext()) {
+                        switch (in.nextName()) {
+                            case "name" -> value.name = JsonAdapters.nextString(in);
+                            case "required" -> value.required = JsonAdapters.nextBoolean(in);
+                            case "externalUrl" -> value.externalUrl = JsonAdapters.nextString(in);
+                            case "platform" -> value.platform = JsonAdapters.nextString(in);
+                            default -> in.skipValue();
+                        }
+                    }
+                    in.endObject();
+                    return value;
+                }
+            }
+        }
+
+        static final class Adapter extends TypeAdapter<VersionResult> {
+            @Override
+            public void write(JsonWriter out, VersionResult value) throws IOException {
+                out.beginObject();
+                out.name("createdAt").value(value.createdAt);
+                out.name("name").value(value.name);
+                out.name("visibility").value(value.visibility);
+                out.name("description").value(value.description);
+                out.name("stats");
+                Stats.ADAPTER.write(out, value.stats);
+                out.name("author").value(value.author);
+                out.name("reviewState").value(value.reviewState);
+                out.name("channel");
+                Channel.ADAPTER.write(out, value.channel);
+                out.name("pinnedStatus").value(value.pinnedStatus);
+                out.name("downloads");
+                JsonAdapters.writeMap(out, value.downloads, DownloadInfo.ADAPTER);
+                out.name("pluginDependencies");
+                JsonAdapters.writeMap(out, value.pluginDependencies, PLUGIN_DEPENDENCIES);
+                out.name("platformDependencies");
+                JsonAdapters.writeMap(out, value.platformDependencies, STRING_LIST);
+                out.name("platformDependenciesFormatted");
+                JsonAdapters.writeMap(out, value.platformDependenciesFormatted, STRING_LIST);
+                out.endObject();
+            }
+
+            @Override
+            public VersionResult read(JsonReader in) throws IOException {
+                VersionResult value = new VersionResult();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "createdAt" -> value.createdAt = JsonAdapters.nextString(in);
+                        case "name" -> value.name = JsonAdapters.nextString(in);
+                        case "visibility" -> value.visibility = JsonAdapters.nextString(in);
+                        case "description" -> value.description = JsonAdapters.nextString(in);
+                        case "stats" -> value.stats = Stats.ADAPTER.read(in);
+                        case "author" -> value.author = JsonAdapters.nextString(in);
+                        case "reviewState" -> value.reviewState = JsonAdapters.nextString(in);
+                        case "channel" -> value.channel = Channel.ADAPTER.read(in);
+                        case "pinnedStatus" -> value.pinnedStatus = JsonAdapters.nextString(in);
+                        case "downloads" -> value.downloads = JsonAdapters.readMap(in, DownloadInfo.ADAPTER);
+                        case "pluginDependencies" -> value.pluginDependencies = JsonAdapters.readMap(in, PLUGIN_DEPENDENCIES);
+                        case "platformDependencies" -> value.platformDependencies = JsonAdapters.readMap(in, STRING_LIST);
+                        case "platformDependenciesFormatted" -> value.platformDependenciesFormatted = JsonAdapters.readMap(in, STRING_LIST);
+                        default -> in.skipValue();
+                    }
+                }
+                in.endObject();
+                return value;
+            }
+        }
+    }
+
+    static final class Adapter extends TypeAdapter<CombinedResponse> {
+        @Override
+        public void write(JsonWriter out, CombinedResponse value) throws IOException {
+            out.beginObject();
+            out.name("pagination");
+            Pagination.ADAPTER.write(out, value.pagination);
+            out.name("result");
+            JsonAdapters.writeList(out, value.result, VersionResult.ADAPTER);
+            out.endObject();
+        }
+
+        @Override
+        public CombinedResponse read(JsonReader in) throws IOException {
+            CombinedResponse value = new CombinedResponse();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "pagination" -> value.pagination = Pagination.ADAPTER.read(in);
+                    case "result" -> value.result = JsonAdapters.readList(in, VersionResult.ADAPTER);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
         }
     }
 }
\ No newline at end of file
@@ -1,12 +1,24 @@
 package one.tranic.t.base.updater.schemas.modrinth;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
 import com.google.gson.annotations.SerializedName;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import one.tranic.t.base.parse.json.JsonAdapters;
 import org.jetbrains.annotations.Nullable;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 
+@JsonAdapter(ModrinthVersionSource.Adapter.class)
 public class ModrinthVersionSource {
+    /**
+     * Reads and writes a version of the Modrinth API without reflection.
+     */
+    public static final TypeAdapter<ModrinthVersionSource> ADAPTER = new Adapter().nullSafe();
+
     private String name;
     @SerializedName("version_number")
     private String versionNumber;
@@ -112,7 +124,10 @@ public class ModrinthVersionSource {
         return files;
     }
 
+    @JsonAdapter(Dependency.Adapter.class)
     public static class Dependency {
+        public static final TypeAdapter<Dependency> ADAPTER = new Adapter().nullSafe();
+
         @SerializedName("version_id")
         private String versionId;
         @SerializedName("project_id")
@@ -140,9 +155,41 @@ public class ModrinthVersionSource {
         public String getDependencyType() {
             return dependencyType;
         }
+
+        static final class Adapter extends TypeAdapter<Dependency> {
+            @Override
+            public void write(JsonWriter out, Dependency value) throws IOException {
+                out.beginObject();
+                out.name("version_id").value(value.versionId);
+                out.name("project_id").value(value.projectId);
+                out.name("file_name").value(value.fileName);
+                out.name("dependency_type").value(value.dependencyType);
+                out.endObject();
+            }
+
+            @Override
+            public Dependency read(JsonReader in) throws IOException {
+                Dependency value = new Dependency();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "version_id" -> value.versionId = JsonAdapters.nextString(in);
+                        case "project_id" -> value.projectId = JsonAdapters.nextString(in);
+                        case "file_name" -> value.fileName = JsonAdapters.nextString(in);
+                        case "dependency_type" -> value.dependencyType = JsonAdapters.nextString(in);
+                        default -> in.skipValue();
+                    }
+                }
+                in.endObject();
+                return value;
+            }
+        }
     }
 
+    @JsonAdapter(File.Adapter.class)
     public static class File {
+        public static final TypeAdapter<File> ADAPTER = new Adapter().nullSafe();
+
         private Hashes hashes;
         private String url;
         private String filename;
@@ -177,9 +224,46 @@ public class ModrinthVersionSource {
         public @Nullable String getFileType() {
             return fileType;
         }
+
+        static final class Adapter extends TypeAdapter<File> {
+            @Override
+            public void write(JsonWriter out, File value) throws IOException {
+                out.beginObject();
+                out.name("hashes");
+                Hashes.ADAPTER.write(out, value.hashes);
+                out.name("url").value(value.url);
+                out.name("filename").value(value.filename);
+                out.name("primary").value(value.primary);
+                out.name("size").value(value.size);
+                out.name("file_type").value(value.fileType);
+                out.endObject();
+            }
+
+            @Override
+            public File read(JsonReader in) throws IOException {
+                File value = new File();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "hashes" -> value.hashes = Hashes.ADAPTER.read(in);
+                        case "url" -> value.url = JsonAdapters.nextString(in);
+                        case "filename" -> value.filename = JsonAdapters.nextString(in);
+                        case "primary" -> value.primary = JsonAdapters.nextBoolean(in);
+                        case "size" -> value.size = JsonAdapters.nextInt(in);
+                        case "file_type" -> value.fileType = JsonAdapters.nextString(in);
+                        default -> in.skipValue();
+                    }
+                }
+                in.endObject();
+                return value;
+            }
+        }
     }
 
+    @JsonAdapter(Hashes.Adapter.class)
     public static class Hashes {
+        public static final TypeAdapter<Hashes> ADAPTER = new Adapter().nullSafe();
+
         private String sha512;
         private String sha1;
 
@@ -193,6 +277,89 @@ public class ModrinthVersionSource {
         public String getSha1() {
             return sha1;
         }
+
+        static final class Adapter extends TypeAdapter<Hashes> {
+            @Override
+            public void write(JsonWriter out, Hashes value) throws IOException {
+                out.beginObject();
+                out.name("sha512").value(value.sha512);
+                out.name("sha1").value(value.sha1);
+                out.endObject();
+            }
+
+            @Override
+            public Hashes read(JsonReader in) throws IOException {
+                Hashes value = new Hashes();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "sha512" -> value.sha512 = JsonAdapters.nextString(in);
+                        case "sha1" -> value.sha1 = JsonAdapters.nextString(in);
+                        default -> in.skipValue();
+                    }
+                }
+                in.endObject();
+                return value;
+            }
+        }
     }
 
+    static final class Adapter extends TypeAdapter<ModrinthVersionSource> {
+        @Override
+        public void write(JsonWriter out, ModrinthVersionSource value) throws IOException {
+            out.beginObject();
+            out.name("name").value(value.name);
+            out.name("version_number").value(value.versionNumber);
+            out.name("changelog").value(value.changelog);
+            out.name("dependencies");
+            JsonAdapters.writeList(out, value.dependencies, Dependency.ADAPTER);
+            out.name("game_versions");
+            JsonAdapters.writeList(out, value.gameVersions, JsonAdapters.STRING);
+            out.name("version_type").value(value.versionType);
+            out.name("loaders");
+            JsonAdapters.writeList(out, value.loaders, JsonAdapters.STRING);
+            out.name("featured").value(value.featured);
+            out.name("status").value(value.status);
+            out.name("requested_status").value(value.requestedStatus);
+            out.name("id").value(value.id);
+            out.name("project_id").value(value.projectId);
+            out.name("author_id").value(value.authorId);
+            out.name("date_published").value(value.datePublished);
+            out.name("downloads").value(value.downloads);
+            out.name("changelog_url").value(value.changelogUrl);
+            out.name("files");
+            JsonAdapters.writeList(out, value.files, File.ADAPTER);
+            out.endObject();
+        }
+
+        @Override
+        public ModrinthVersionSource read(JsonReader in) throws IOException {
+            ModrinthVersionSource value = new ModrinthVersionSource();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "name" -> value.name = JsonAdapters.nextString(in);
+                    case "version_number" -> value.versionNumber = JsonAdapters.nextString(in);
+                    case "changelog" -> value.changelog = JsonAdapters.nextString(in);
+                    case "dependencies" -> value.dependencies = JsonAdapters.readList(in, Dependency.ADAPTER);
+                    case "game_versions" -> value.gameVersions = JsonAdapters.readList(in, JsonAdapters.STRING);
+                    case "version_type" -> value.versionType = JsonAdapters.nextString(in);
+                    case "loaders" -> value.loaders = JsonAdapters.readList(in, JsonAdapters.STRING);
+                    case "featured" -> value.featured = JsonAdapters.nextBoolean(in);
+                    case "status" -> value.status = JsonAdapters.nextString(in);
+                    case "requested_status" -> value.requestedStatus = JsonAdapters.nextString(in);
+                    case "id" -> value.id = JsonAdapters.nextString(in);
+                    case "project_id" -> value.projectId = JsonAdapters.nextString(in);
+                    case "author_id" -> value.authorId = JsonAdapters.nextString(in);
+                    case "date_published" -> value.datePublished = JsonAdapters.nextString(in);
+                    case "downloads" -> value.downloads = JsonAdapters.nextInt(in);
+                    case "changelog_url" -> value.changelogUrl = JsonAdapters.nextString(in);
+                    case "files" -> value.files = JsonAdapters.readList(in, File.ADAPTER);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
 }
\ No newline at end of file
@@ -1,6 +1,20 @@
 package one.tranic.t.base.updater.schemas.spiget;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import one.tranic.t.base.parse.json.JsonAdapters;
+
+import java.io.IOException;
+
+@JsonAdapter(SpigetErrorSource.Adapter.class)
 public class SpigetErrorSource {
+    /**
+     * Reads and writes an error of the Spiget API without reflection.
+     */
+    public static final TypeAdapter<SpigetErrorSource> ADAPTER = new Adapter().nullSafe();
+
     private String error;
 
     public SpigetErrorSource() {
@@ -9,4 +23,27 @@ public class SpigetErrorSource {
     public String getError() {
         return error;
     }
+
+    static final class Adapter extends TypeAdapter<SpigetErrorSource> {
+        @Override
+        public void write(JsonWriter out, SpigetErrorSource value) throws IOException {
+            out.beginObject();
+            out.name("error").value(value.error);
+            out.endObject();
+        }
+
+        @Override
+        public SpigetErrorSource read(JsonReader in) throws IOException {
+            SpigetErrorSource value = new SpigetErrorSource();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "error" -> value.error = JsonAdapters.nextString(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
 }
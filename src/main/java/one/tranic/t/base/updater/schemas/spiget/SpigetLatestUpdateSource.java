@@ -1,8 +1,21 @@
 package one.tranic.t.base.updater.schemas.spiget;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import one.tranic.t.base.parse.json.JsonAdapters;
+
+import java.io.IOException;
 import java.util.Date;
 
+@JsonAdapter(SpigetLatestUpdateSource.Adapter.class)
 public class SpigetLatestUpdateSource {
+    /**
+     * Reads and writes the latest update of a Spiget resource without reflection.
+     */
+    public static final TypeAdapter<SpigetLatestUpdateSource> ADAPTER = new Adapter().nullSafe();
+
     private int date;
     private String description;
     private int likes;
@@ -40,4 +53,37 @@ public class SpigetLatestUpdateSource {
     public int getId() {
         return id;
     }
+
+    static final class Adapter extends TypeAdapter<SpigetLatestUpdateSource> {
+        @Override
+        public void write(JsonWriter out, SpigetLatestUpdateSource value) throws IOException {
+            out.beginObject();
+            out.name("date").value(value.date);
+            out.name("description").value(value.description);
+            out.name("likes").value(value.likes);
+            out.name("resource").value(value.resource);
+            out.name("title").value(value.title);
+            out.name("id").value(value.id);
+            out.endObject();
+        }
+
+        @Override
+        public SpigetLatestUpdateSource read(JsonReader in) throws IOException {
+            SpigetLatestUpdateSource value = new SpigetLatestUpdateSource();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "date" -> value.date = JsonAdapters.nextInt(in);
+                    case "description" -> value.description = JsonAdapters.nextString(in);
+                    case "likes" -> value.likes = JsonAdapters.nextInt(in);
+                    case "resource" -> value.resource = JsonAdapters.nextInt(in);
+                    case "title" -> value.title = JsonAdapters.nextString(in);
+                    case "id" -> value.id = JsonAdapters.nextInt(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
+    }
 }
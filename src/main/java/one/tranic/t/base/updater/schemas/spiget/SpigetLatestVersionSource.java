@@ -1,9 +1,22 @@
 package one.tranic.t.base.updater.schemas.spiget;
 
+import com.google.gson.TypeAdapter;
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import one.tranic.t.base.parse.json.JsonAdapters;
+
+import java.io.IOException;
 import java.util.Date;
 import java.util.UUID;
 
+@JsonAdapter(SpigetLatestVersionSource.Adapter.class)
 public class SpigetLatestVersionSource {
+    /**
+     * Reads and writes the latest version of a Spiget resource without reflection.
+     */
+    public static final TypeAdapter<SpigetLatestVersionSource> ADAPTER = new Adapter().nullSafe();
+
     private int downloads;
     private String name;
     private Rating rating;
@@ -51,11 +64,75 @@ public class SpigetLatestVersionSource {
         return rating;
     }
 
+    @JsonAdapter(Rating.Adapter.class)
     public static class Rating {
+        public static final TypeAdapter<Rating> ADAPTER = new Adapter().nullSafe();
+
         private int count;
         private int average;
 
         public Rating() {
         }
+
+        static final class Adapter extends TypeAdapter<Rating> {
+            @Override
+            public void write(JsonWriter out, Rating value) throws IOException {
+                out.beginObject();
+                out.name("count").value(value.count);
+                out.name("average").value(value.average);
+                out.endObject();
+            }
+
+            @Override
+            public Rating read(JsonReader in) throws IOException {
+                Rating value = new Rating();
+                in.beginObject();
+                while (in.hasNext()) {
+                    switch (in.nextName()) {
+                        case "count" -> value.count = JsonAdapters.nextInt(in);
+                        case "average" -> value.average = JsonAdapters.nextInt(in);
+                        default -> in.skipValue();
+                    }
+                }
+                in.endObject();
+                return value;
+            }
+        }
+    }
+
+    static final class Adapter extends TypeAdapter<SpigetLatestVersionSource> {
+        @Override
+        public void write(JsonWriter out, SpigetLatestVersionSource value) throws IOException {
+            out.beginObject();
+            out.name("downloads").value(value.downloads);
+            out.name("name").value(value.name);
+            out.name("rating");
+            Rating.ADAPTER.write(out, value.rating);
+            out.name("releaseDate").value(value.releaseDate);
+            out.name("resource").value(value.resource);
+            out.name("uuid").value(value.uuid);
+            out.name("id").value(value.id);
+            out.endObject();
+        }
+
+        @Override
+        public SpigetLatestVersionSource read(JsonReader in) throws IOException {
+            SpigetLatestVersionSource value = new SpigetLatestVersionSource();
+            in.beginObject();
+            while (in.hasNext()) {
+                switch (in.nextName()) {
+                    case "downloads" -> value.downloads = JsonAdapters.nextInt(in);
+                    case "name" -> value.name = JsonAdapters.nextString(in);
+                    case "rating" -> value.rating = Rating.ADAPTER.read(in);
+                    case "releaseDate" -> value.releaseDate = JsonAdapters.nextInt(in);
+                    case "resource" -> value.resource = JsonAdapters.nextInt(in);
+                    case "uuid" -> value.uuid = JsonAdapters.nextString(in);
+                    case "id" -> value.id = JsonAdapters.nextInt(in);
+                    default -> in.skipValue();
+                }
+            }
+            in.endObject();
+            return value;
+        }
     }
 }